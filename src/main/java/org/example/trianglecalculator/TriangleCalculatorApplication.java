@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @OpenAPIDefinition(info = @Info(title = "Сервис расчета параметров треугольника",
         version = "0.0.1",
@@ -12,6 +13,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
                 url = "https://t.me/KorotkihA"),
         description = "Коротких А.И."))
 @SpringBootApplication
+@EnableScheduling
 public class TriangleCalculatorApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,31 @@
+package org.example.trianglecalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleAuditStatsData;
+import org.example.trianglecalculator.service.TriangleAuditLog;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/triangle/audit")
+@Tag(name = "Журнал аудита запросов")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleAuditController {
+
+    TriangleAuditLog triangleAuditLog;
+
+    @Operation(description = """
+            Показатели журнала аудита запросов к /api/v1/triangle/info:
+            количество записанных, отброшенных и потерянных записей, заполненность буфера и задержка записи в файлы
+            """)
+    @GetMapping("/stats")
+    public TriangleAuditStatsData getStats() {
+        return triangleAuditLog.getStats();
+    }
+}
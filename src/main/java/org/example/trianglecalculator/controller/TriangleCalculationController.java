@@ -14,16 +14,11 @@ import lombok.experimental.FieldDefaults;
 import org.example.trianglecalculator.dto.TriangleDataRequest;
 import org.example.trianglecalculator.dto.TriangleDataResponse;
 import org.example.trianglecalculator.dto.TriangleValidationErrors;
-import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.service.TriangleAuditLog;
 import org.example.trianglecalculator.service.TriangleComputeService;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -34,6 +29,7 @@ import java.util.Map;
 public class TriangleCalculationController {
 
     TriangleComputeService triangleComputeService;
+    TriangleAuditLog triangleAuditLog;
 
     @Operation(description = """
             Получение информации о треугольнике по длинам его сторон и величине углов:
@@ -66,23 +62,7 @@ public class TriangleCalculationController {
     })
     @PostMapping("/info")
     public ResponseEntity<?> getTriangleInfo(@RequestBody @Valid TriangleDataRequest request) {
-        return ResponseEntity.ok().body(triangleComputeService.getTriangleInfo(request));
-    }
-
-    @ExceptionHandler(TriangleValidateException.class)
-    public ResponseEntity<?> handleTriangleValidateException(TriangleValidateException e) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new TriangleValidationErrors(e.getErrors()));
-    }
-
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public TriangleValidationErrors handleValidationExceptions(MethodArgumentNotValidException ex) {
-        List<String> errors = new ArrayList<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.add(fieldName + " " + errorMessage);
-        });
-        return new TriangleValidationErrors(errors);
+        return ResponseEntity.ok().body(
+                triangleAuditLog.audit(request, () -> triangleComputeService.getTriangleInfo(request)));
     }
 }
@@ -0,0 +1,61 @@
+package org.example.trianglecalculator.controller;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleValidationErrors;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.service.TriangleAuditLog;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestControllerAdvice
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleExceptionHandler {
+
+    TriangleAuditLog triangleAuditLog;
+
+    @ExceptionHandler(TriangleValidateException.class)
+    public ResponseEntity<?> handleTriangleValidateException(TriangleValidateException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new TriangleValidationErrors(e.getErrors()));
+    }
+
+    @ExceptionHandler(TriangleStatusException.class)
+    public ResponseEntity<?> handleTriangleStatusException(TriangleStatusException e) {
+        return ResponseEntity.status(e.getStatus()).body(new TriangleValidationErrors(List.of(e.getError())));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public TriangleValidationErrors handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        return new TriangleValidationErrors(List.of(TriangleValidationErrors.MALFORMED_BODY));
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public TriangleValidationErrors handleValidationExceptions(MethodArgumentNotValidException ex) {
+        List<String> errors = new ArrayList<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.add(fieldName + " " + errorMessage);
+        });
+        if (ex.getParameter().getContainingClass() == TriangleCalculationController.class
+                && ex.getBindingResult().getTarget() instanceof TriangleDataRequest request) {
+            triangleAuditLog.auditRejected(request, errors);
+        }
+        return new TriangleValidationErrors(errors);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.trianglecalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleJobData;
+import org.example.trianglecalculator.dto.TriangleJobRequest;
+import org.example.trianglecalculator.dto.TriangleJobResultData;
+import org.example.trianglecalculator.service.TriangleJobService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/triangle/jobs")
+@Tag(name = "Пакетный расчет параметров треугольников")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleJobController {
+
+    TriangleJobService triangleJobService;
+
+    @Operation(description = """
+            Создание задачи пакетного расчета. Возвращает идентификатор задачи,
+            по которому запрашивается прогресс и части результата.
+            """)
+    @PostMapping
+    public ResponseEntity<TriangleJobData> submit(@RequestBody @Valid TriangleJobRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(triangleJobService.submit(request.triangles()));
+    }
+
+    @Operation(description = """
+            Получение прогресса задачи. Для задачи в состоянии FAILED возвращается причина ошибки.
+            Завершенные задачи удаляются через triangle.jobs.result-ttl-seconds после завершения.
+            """)
+    @GetMapping("/{id}")
+    public TriangleJobData getJob(@PathVariable String id) {
+        return triangleJobService.getJob(id);
+    }
+
+    @Operation(description = "Получение готовой части результата задачи")
+    @GetMapping("/{id}/results/{chunk}")
+    public List<TriangleJobResultData> getResults(@PathVariable String id, @PathVariable int chunk) {
+        return triangleJobService.getResults(id, chunk);
+    }
+
+    @Operation(description = "Отмена задачи и удаление ее результатов")
+    @DeleteMapping("/{id}")
+    public TriangleJobData cancel(@PathVariable String id) {
+        return triangleJobService.cancel(id);
+    }
+}
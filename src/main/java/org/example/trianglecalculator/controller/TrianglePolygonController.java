@@ -0,0 +1,34 @@
+package org.example.trianglecalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TrianglePolygonData;
+import org.example.trianglecalculator.dto.TrianglePolygonRequest;
+import org.example.trianglecalculator.service.TrianglePolygonService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/triangle/polygons")
+@Tag(name = "Триангуляция многоугольников")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TrianglePolygonController {
+
+    TrianglePolygonService trianglePolygonService;
+
+    @Operation(description = """
+            Триангуляция простого многоугольника, в том числе с отверстиями, и расчет параметров
+            каждого треугольника. Возвращает площадь, периметр и треугольник с наихудшим соотношением сторон.
+            """)
+    @PostMapping("/triangulation")
+    public TrianglePolygonData triangulate(@RequestBody @Valid TrianglePolygonRequest request) {
+        return trianglePolygonService.triangulate(request);
+    }
+}
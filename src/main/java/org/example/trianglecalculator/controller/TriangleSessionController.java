@@ -0,0 +1,57 @@
+package org.example.trianglecalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleSessionData;
+import org.example.trianglecalculator.dto.TriangleSessionDeltaRequest;
+import org.example.trianglecalculator.dto.TriangleSessionUpdateData;
+import org.example.trianglecalculator.service.TriangleSessionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("api/v1/triangle/sessions")
+@Tag(name = "Пошаговое редактирование треугольника")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleSessionController {
+
+    TriangleSessionService triangleSessionService;
+
+    @Operation(description = """
+            Открытие сессии редактирования. Возвращает идентификатор сессии и все параметры треугольника.
+            """)
+    @PostMapping
+    public ResponseEntity<TriangleSessionData> open(@RequestBody @Valid TriangleDataRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(triangleSessionService.open(request));
+    }
+
+    @Operation(description = "Получение текущих значений и всех параметров треугольника сессии")
+    @GetMapping("/{id}")
+    public TriangleSessionData getSession(@PathVariable String id) {
+        return triangleSessionService.getSession(id);
+    }
+
+    @Operation(description = """
+            Изменение одного или нескольких полей треугольника. Пересчитываются только зависящие от них параметры,
+            в ответ попадают только изменившиеся параметры.
+            """)
+    @PatchMapping("/{id}")
+    public TriangleSessionUpdateData update(@PathVariable String id,
+                                            @RequestBody @Valid TriangleSessionDeltaRequest request) {
+        return triangleSessionService.update(id, request.changes());
+    }
+
+    @Operation(description = "Закрытие сессии")
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void close(@PathVariable String id) {
+        triangleSessionService.close(id);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.trianglecalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.RegisteredTriangleData;
+import org.example.trianglecalculator.dto.RegisteredTrianglesData;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleShapeMatchData;
+import org.example.trianglecalculator.service.TriangleShapeIndexService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/triangle/shapes")
+@Tag(name = "Поиск треугольников по форме")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleShapeIndexController {
+
+    TriangleShapeIndexService triangleShapeIndexService;
+
+    @Operation(description = "Регистрация треугольника в индексе форм")
+    @PostMapping
+    public ResponseEntity<?> register(@RequestBody @Valid RegisteredTriangleData triangle) {
+        triangleShapeIndexService.register(triangle);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(description = "Пакетная регистрация треугольников в индексе форм")
+    @PostMapping("/bulk")
+    public ResponseEntity<?> registerAll(@RequestBody @Valid RegisteredTrianglesData triangles) {
+        triangleShapeIndexService.registerAll(triangles.triangles());
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(description = """
+            Поиск k зарегистрированных треугольников, ближайших по форме к переданному.
+            Форма описывается отношениями двух меньших сторон к наибольшей и не зависит от масштаба.
+            """)
+    @PostMapping("/nearest")
+    public List<TriangleShapeMatchData> findNearest(
+            @RequestBody @Valid TriangleDataRequest request,
+            @Parameter(description = "Количество результатов") @RequestParam(defaultValue = "10") int k) {
+        return triangleShapeIndexService.findNearest(request, k);
+    }
+
+    @Operation(description = """
+            Поиск зарегистрированных треугольников, форма которых отличается не более чем на radius.
+            Если найдено больше 1000 треугольников, возвращается 400: нужно уменьшить radius.
+            """)
+    @PostMapping("/within")
+    public List<TriangleShapeMatchData> findWithinRadius(
+            @RequestBody @Valid TriangleDataRequest request,
+            @Parameter(description = "Максимальное расстояние между формами") @RequestParam double radius) {
+        return triangleShapeIndexService.findWithinRadius(request, radius);
+    }
+}
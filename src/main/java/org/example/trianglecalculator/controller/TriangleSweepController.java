@@ -0,0 +1,58 @@
+package org.example.trianglecalculator.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleSweepAggregateData;
+import org.example.trianglecalculator.dto.TriangleSweepRequest;
+import org.example.trianglecalculator.service.TriangleSweepService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("api/v1/triangle/sweeps")
+@Tag(name = "Параметрический перебор треугольников")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleSweepController {
+
+    TriangleSweepService triangleSweepService;
+    ObjectMapper objectMapper;
+
+    @Operation(description = """
+            Перебор треугольников по диапазонам сторон и углов. Результаты передаются потоком
+            в формате NDJSON: одна строка на каждую точку, прошедшую неравенство треугольника и сумму углов.
+            """)
+    @PostMapping("/results")
+    public ResponseEntity<StreamingResponseBody> sweep(@RequestBody @Valid TriangleSweepRequest request) {
+        var results = triangleSweepService.sweep(request);
+        StreamingResponseBody body = output -> {
+            try (results) {
+                var iterator = results.iterator();
+                while (iterator.hasNext()) {
+                    output.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    output.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(description = """
+            Перебор треугольников по диапазонам сторон и углов со сводными показателями.
+            При превышении лимита одновременных расчетов возвращается 429.
+            """)
+    @PostMapping("/aggregates")
+    public TriangleSweepAggregateData aggregate(@RequestBody @Valid TriangleSweepRequest request) {
+        return triangleSweepService.aggregate(request);
+    }
+}
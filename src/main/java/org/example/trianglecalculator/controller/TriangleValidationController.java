@@ -0,0 +1,30 @@
+package org.example.trianglecalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleValidationRuleStatsData;
+import org.example.trianglecalculator.service.TriangleValidationService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/triangle/validation")
+@Tag(name = "Правила валидации треугольника")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleValidationController {
+
+    TriangleValidationService triangleValidationService;
+
+    @Operation(description = "Статистика правил валидации: количество проверок, нарушений и среднее время проверки")
+    @GetMapping("/rules")
+    public List<TriangleValidationRuleStatsData> getRuleStats() {
+        return triangleValidationService.getRuleStats();
+    }
+}
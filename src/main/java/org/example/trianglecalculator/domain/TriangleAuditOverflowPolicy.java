@@ -0,0 +1,6 @@
+package org.example.trianglecalculator.domain;
+
+public enum TriangleAuditOverflowPolicy {
+    DROP,   //запись не сохраняется, запрос не ждет
+    BLOCK   //запрос ждет, пока в буфере освободится место
+}
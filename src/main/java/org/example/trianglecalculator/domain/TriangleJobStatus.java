@@ -0,0 +1,9 @@
+package org.example.trianglecalculator.domain;
+
+public enum TriangleJobStatus {
+    QUEUED,     //ожидает обработки
+    RUNNING,    //обрабатывается
+    COMPLETED,  //обработан
+    CANCELLED,  //отменен
+    FAILED      //прерван из-за ошибки, результаты удалены
+}
@@ -0,0 +1,47 @@
+package org.example.trianglecalculator.domain;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+
+/**
+ * Описание формы треугольника, не зависящее от масштаба и обозначения вершин.
+ * Стороны упорядочиваются по возрастанию a ≤ b ≤ c и делятся на наибольшую сторону c.
+ *
+ * @param shortRatio  отношение a / c, лежит в (0, 1]
+ * @param middleRatio отношение b / c, лежит в [shortRatio, 1]
+ */
+public record TriangleShapeDescriptor(
+        double shortRatio,
+        double middleRatio
+) {
+
+    /**
+     * Построение описания формы по длинам сторон.
+     * Углы отдельно не учитываются: для треугольника, прошедшего валидацию, они однозначно определяются сторонами.
+     *
+     * @param triangle {@link TriangleDataRequest} значения длин сторон
+     * @return {@link TriangleShapeDescriptor}
+     */
+    public static TriangleShapeDescriptor of(TriangleDataRequest triangle) {
+        double a = triangle.getSideAB();
+        double b = triangle.getSideBC();
+        double c = triangle.getSideAC();
+
+        double longest = Math.max(a, Math.max(b, c));
+        double shortest = Math.min(a, Math.min(b, c));
+        double middle = a + b + c - longest - shortest;
+
+        return new TriangleShapeDescriptor(shortest / longest, middle / longest);
+    }
+
+    /**
+     * Евклидово расстояние между формами
+     *
+     * @param other {@link TriangleShapeDescriptor}
+     * @return 0 для подобных треугольников
+     */
+    public double distanceTo(TriangleShapeDescriptor other) {
+        double dx = shortRatio - other.shortRatio;
+        double dy = middleRatio - other.middleRatio;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
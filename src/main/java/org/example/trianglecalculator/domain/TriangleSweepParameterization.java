@@ -0,0 +1,15 @@
+package org.example.trianglecalculator.domain;
+
+/**
+ * Способ задания точек перебора
+ */
+public enum TriangleSweepParameterization {
+    /**
+     * Независимые диапазоны всех трех сторон и всех трех углов
+     */
+    GRID,
+    /**
+     * Диапазоны сторон AB, AC и угла A между ними, остальные сторона и углы вычисляются
+     */
+    SIDE_ANGLE_SIDE
+}
@@ -0,0 +1,6 @@
+package org.example.trianglecalculator.domain;
+
+public enum TriangleValidationMode {
+    FAIL_FAST,      //до первого нарушенного правила
+    COLLECT_ALL     //все нарушенные правила
+}
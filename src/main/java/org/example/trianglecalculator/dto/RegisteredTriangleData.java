@@ -0,0 +1,17 @@
+package org.example.trianglecalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record RegisteredTriangleData(
+        @Schema(example = "bracket-17", description = "Идентификатор треугольника в каталоге")
+        @NotBlank(message = "Нужно указать идентификатор треугольника")
+        String id,
+
+        @Valid
+        @NotNull(message = "Нужно указать параметры треугольника")
+        TriangleDataRequest triangle
+) {
+}
@@ -0,0 +1,12 @@
+package org.example.trianglecalculator.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record RegisteredTrianglesData(
+        @NotEmpty(message = "Нужно указать хотя бы один треугольник")
+        List<@Valid RegisteredTriangleData> triangles
+) {
+}
@@ -0,0 +1,30 @@
+package org.example.trianglecalculator.dto;
+
+import org.example.trianglecalculator.domain.TriangleAngleType;
+import org.example.trianglecalculator.domain.TriangleSideType;
+
+import java.util.List;
+
+public record TriangleAuditRecord(
+        long timestamp,                 //время начала обработки запроса, мс с начала эпохи
+        long durationNanos,             //время валидации и расчета, 0 для запросов, отклоненных до расчета
+        double sideAB,
+        double sideBC,
+        double sideAC,
+        double angleA,
+        double angleB,
+        double angleC,
+        Double area,                    //площадь, null если запрос отклонен
+        Double perimeter,               //периметр, null если запрос отклонен
+        TriangleSideType sideType,      //тип по сторонам, null если запрос отклонен
+        TriangleAngleType angleType,    //тип по углам, null если запрос отклонен
+        List<String> errors             //ошибки валидации, пустой список для рассчитанных треугольников
+) {
+
+    /**
+     * Запрос отклонен: результата расчета нет, даже если список ошибок пуст
+     */
+    public boolean isRejected() {
+        return sideType == null;
+    }
+}
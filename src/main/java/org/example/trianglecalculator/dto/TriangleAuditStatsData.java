@@ -0,0 +1,15 @@
+package org.example.trianglecalculator.dto;
+
+public record TriangleAuditStatsData(
+        boolean enabled,
+        long recorded,              //количество записей, помещенных в буфер
+        long written,               //количество записей, записанных в файлы
+        long dropped,               //количество записей, отброшенных при переполненном буфере
+        long blocked,               //количество запросов, ожидавших места в буфере
+        long failed,                //количество записей, потерянных из-за ошибок кодирования или записи в файл
+        long pending,               //количество записей в буфере
+        long writerLagMillis,       //задержка записи последней партии от завершения запроса
+        long maxWriterLagMillis,    //максимальная задержка записи партии
+        String currentFile          //текущий файл журнала
+) {
+}
@@ -2,10 +2,12 @@ package org.example.trianglecalculator.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 import org.example.trianglecalculator.domain.TriangleAngleType;
 import org.example.trianglecalculator.domain.TriangleSideType;
 
 @Builder
+@Jacksonized
 @Data
 public class TriangleDataResponse {
 
@@ -0,0 +1,15 @@
+package org.example.trianglecalculator.dto;
+
+import org.example.trianglecalculator.domain.TriangleJobStatus;
+
+public record TriangleJobData(
+        String id,
+        TriangleJobStatus status,
+        int total,              //количество треугольников в задаче
+        int processed,          //обработано треугольников
+        int failed,             //из них не прошли валидацию
+        int chunkCount,         //количество частей результата
+        int completedChunks,    //готово частей результата
+        String error            //причина ошибки для задачи в состоянии FAILED
+) {
+}
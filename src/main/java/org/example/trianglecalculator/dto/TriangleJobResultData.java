@@ -0,0 +1,10 @@
+package org.example.trianglecalculator.dto;
+
+import java.util.List;
+
+public record TriangleJobResultData(
+        int index,      //номер треугольника в исходном наборе
+        TriangleDataResponse result,
+        List<String> errors
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.trianglecalculator.dto;
+
+import java.util.List;
+
+public record TrianglePolygonData(
+        int triangleCount,
+        int degenerateCount,        //вырожденные треугольники, не прошедшие валидацию, в итоги не входят
+        double area,                //площадь многоугольника за вычетом отверстий
+        double perimeter,           //длина внешнего контура и контуров отверстий
+        TrianglePolygonTriangleData worstAspectTriangle,
+        List<TrianglePolygonTriangleData> triangles
+) {
+}
@@ -0,0 +1,19 @@
+package org.example.trianglecalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TrianglePolygonRequest(
+        @Schema(example = "[[0, 0], [10, 0], [10, 10], [0, 10]]", description = "Вершины внешнего контура [x, y]")
+        @NotNull(message = "Нужно указать вершины внешнего контура")
+        @Size(min = 3, message = "Внешний контур должен содержать не меньше 3 вершин")
+        List<double[]> outline,
+        @Schema(example = "[[[4, 4], [6, 4], [6, 6], [4, 6]]]", description = "Контуры отверстий")
+        List<@Size(min = 3, message = "Контур отверстия должен содержать не меньше 3 вершин") List<double[]>> holes,
+        @Schema(description = "Возвращать параметры каждого треугольника")
+        boolean includeTriangles
+) {
+}
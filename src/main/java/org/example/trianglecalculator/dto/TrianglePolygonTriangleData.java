@@ -0,0 +1,9 @@
+package org.example.trianglecalculator.dto;
+
+public record TrianglePolygonTriangleData(
+        int[] vertices,             //номера вершин A, B, C: сначала вершины внешнего контура, затем отверстий
+        TriangleDataRequest triangle,
+        TriangleDataResponse result,
+        double aspectRatio          //отношение наибольшей стороны к наименьшей высоте, для равностороннего равно 1
+) {
+}
@@ -0,0 +1,8 @@
+package org.example.trianglecalculator.dto;
+
+public record TriangleSessionData(
+        String id,
+        TriangleDataRequest triangle,           //текущие значения длин сторон и углов
+        TriangleDataResponse triangleInfo       //все параметры треугольника
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.trianglecalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+public record TriangleSessionDeltaRequest(
+        @Schema(example = "{\"sideAB\": 4.5}",
+                description = "Новые значения полей треугольника: sideAB, sideBC, sideAC, angleA, angleB, angleC")
+        @NotEmpty(message = "Нужно указать хотя бы одно изменяемое поле")
+        Map<String, @NotNull Double> changes
+) {
+}
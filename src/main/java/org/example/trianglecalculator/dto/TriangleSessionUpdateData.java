@@ -0,0 +1,9 @@
+package org.example.trianglecalculator.dto;
+
+import java.util.Map;
+
+public record TriangleSessionUpdateData(
+        String id,
+        Map<String, Object> changed     //изменившиеся параметры по пути к полю TriangleDataResponse, например "heights.heightA"
+) {
+}
@@ -0,0 +1,8 @@
+package org.example.trianglecalculator.dto;
+
+public record TriangleShapeMatchData(
+        String id,
+        double distance,    //расстояние между формами
+        TriangleDataRequest triangle
+) {
+}
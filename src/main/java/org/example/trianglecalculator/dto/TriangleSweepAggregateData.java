@@ -0,0 +1,21 @@
+package org.example.trianglecalculator.dto;
+
+import org.example.trianglecalculator.domain.TriangleAngleType;
+import org.example.trianglecalculator.domain.TriangleSideType;
+
+import java.util.Map;
+
+public record TriangleSweepAggregateData(
+        long gridSize,                  //количество точек полного перебора
+        long pruned,                    //отброшено без расчета по неравенству треугольника и сумме углов
+        long computed,                  //передано в расчет
+        long rejected,                  //из них не прошли остальные правила валидации
+        Double minArea,
+        Double maxArea,
+        Double minPerimeter,
+        Double maxPerimeter,
+        TriangleDataRequest maxAreaTriangle,
+        Map<TriangleAngleType, Long> angleTypes,
+        Map<TriangleSideType, Long> sideTypes
+) {
+}
@@ -0,0 +1,28 @@
+package org.example.trianglecalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+
+public record TriangleSweepRange(
+        @Schema(example = "1", description = "Начальное значение")
+        @Positive(message = "Начальное значение диапазона должно быть больше 0")
+        double from,
+        @Schema(example = "10", description = "Конечное значение, включительно")
+        @Positive(message = "Конечное значение диапазона должно быть больше 0")
+        double to,
+        @Schema(example = "0.5", description = "Шаг")
+        @Positive(message = "Шаг диапазона должен быть больше 0")
+        double step
+) {
+
+    /**
+     * Количество значений диапазона с учетом погрешности деления на шаг
+     */
+    public long count() {
+        return to < from ? 0 : (long) Math.floor((to - from) / step + 1e-9) + 1;
+    }
+
+    public double valueAt(long index) {
+        return from + index * step;
+    }
+}
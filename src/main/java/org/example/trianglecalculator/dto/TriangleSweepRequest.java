@@ -0,0 +1,17 @@
+package org.example.trianglecalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import org.example.trianglecalculator.domain.TriangleSweepParameterization;
+
+public record TriangleSweepRequest(
+        @Schema(description = "Способ задания точек, по умолчанию GRID")
+        TriangleSweepParameterization parameterization,
+        @Valid TriangleSweepRange sideAB,
+        @Valid TriangleSweepRange sideBC,       //не используется для SIDE_ANGLE_SIDE
+        @Valid TriangleSweepRange sideAC,
+        @Valid TriangleSweepRange angleA,
+        @Valid TriangleSweepRange angleB,       //не используется для SIDE_ANGLE_SIDE
+        @Valid TriangleSweepRange angleC        //не используется для SIDE_ANGLE_SIDE
+) {
+}
@@ -0,0 +1,10 @@
+package org.example.trianglecalculator.dto;
+
+import java.util.List;
+
+public record TriangleSweepResultData(
+        TriangleDataRequest triangle,   //значения длин сторон и углов точки перебора
+        TriangleDataResponse result,
+        List<String> errors
+) {
+}
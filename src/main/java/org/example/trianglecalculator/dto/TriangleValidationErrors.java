@@ -5,4 +5,10 @@ import java.util.List;
 public record TriangleValidationErrors(
         List<String> errors
 ) {
+
+    /**
+     * Ошибка для тела запроса, которое не удалось прочитать как JSON, одинаковая в основном режиме и в режиме edge
+     */
+    public static final String MALFORMED_BODY =
+            "Тело запроса должно содержать значения длин сторон и углов треугольника в формате JSON";
 }
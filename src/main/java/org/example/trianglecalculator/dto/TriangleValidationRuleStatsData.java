@@ -0,0 +1,10 @@
+package org.example.trianglecalculator.dto;
+
+public record TriangleValidationRuleStatsData(
+        String name,
+        int position,           //место правила в текущем порядке проверки
+        long evaluations,       //количество проверок
+        long rejections,        //количество нарушений
+        double averageTimeNanos //среднее время проверки
+) {
+}
@@ -0,0 +1,126 @@
+package org.example.trianglecalculator.edge;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.example.trianglecalculator.domain.TriangleAuditOverflowPolicy;
+import org.example.trianglecalculator.domain.TriangleValidationMode;
+import org.example.trianglecalculator.service.TriangleAuditLog;
+import org.example.trianglecalculator.service.TriangleComputeService;
+import org.example.trianglecalculator.service.TriangleSimilarityCache;
+import org.example.trianglecalculator.service.TriangleValidationService;
+import org.example.trianglecalculator.validation.TriangleValidationRules;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Запуск сервиса в режиме edge: только {@code POST /api/v1/triangle/info} на {@link TriangleEdgeServer}
+ * без контекста Spring, Spring MVC и Tomcat.
+ * <p>
+ * Сервисы расчета и валидации создаются напрямую, настройки читаются из {@code application.properties}
+ * и переопределяются системными свойствами {@code -Dимя=значение}:
+ * <ul>
+ *     <li>{@code triangle.edge.port} - порт, по умолчанию 8080;</li>
+ *     <li>{@code triangle.edge.executor} - {@code fixed} (по умолчанию) или {@code virtual},
+ *     виртуальные потоки доступны при запуске на Java 21 и выше;</li>
+ *     <li>{@code triangle.edge.threads} - размер пула {@code fixed}, по умолчанию удвоенное количество ядер.</li>
+ * </ul>
+ * Также используются {@code triangle.validation.mode}, {@code triangle.cache.similarity.*} и {@code triangle.audit.*}.
+ */
+@Slf4j
+public class TriangleEdgeApplication {
+
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        var properties = loadProperties();
+
+        var server = createServer(properties);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+
+        log.info("Triangle calculator edge mode started on port {} in {} ms",
+                server.getPort(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static TriangleEdgeServer createServer(Properties properties) throws IOException {
+        var computeService = new TriangleComputeService(
+                new TriangleValidationService(TriangleValidationRules.defaultRules(), TriangleValidationMode.valueOf(
+                        properties.getProperty("triangle.validation.mode", "COLLECT_ALL"))),
+                new TriangleSimilarityCache(
+                        Boolean.parseBoolean(properties.getProperty("triangle.cache.similarity.enabled", "true")),
+                        Double.parseDouble(properties.getProperty("triangle.cache.similarity.tolerance", "1e-9")),
+                        Integer.parseInt(properties.getProperty("triangle.cache.similarity.capacity", "10000"))));
+
+        return new TriangleEdgeServer(computeService, createAuditLog(properties), createValidator(),
+                createObjectMapper(),
+                Integer.parseInt(properties.getProperty("triangle.edge.port", "8080")),
+                createExecutor(properties.getProperty("triangle.edge.executor", "fixed"),
+                        Integer.parseInt(properties.getProperty("triangle.edge.threads", "0"))));
+    }
+
+    static TriangleAuditLog createAuditLog(Properties properties) {
+        return new TriangleAuditLog(
+                Boolean.parseBoolean(properties.getProperty("triangle.audit.enabled", "false")),
+                Path.of(properties.getProperty("triangle.audit.directory", "audit")),
+                Integer.parseInt(properties.getProperty("triangle.audit.buffer-capacity", "65536")),
+                TriangleAuditOverflowPolicy.valueOf(properties.getProperty("triangle.audit.overflow-policy", "DROP")),
+                Integer.parseInt(properties.getProperty("triangle.audit.batch-size", "1024")),
+                Long.parseLong(properties.getProperty("triangle.audit.flush-interval-ms", "50")),
+                Long.parseLong(properties.getProperty("triangle.audit.max-file-size", "67108864")),
+                Integer.parseInt(properties.getProperty("triangle.audit.max-files", "20")));
+    }
+
+    /**
+     * Валидатор без Expression Language: сообщения ограничений {@link org.example.trianglecalculator.dto.TriangleDataRequest}
+     * не содержат выражений, а инициализация EL заметно удлиняет запуск
+     */
+    static Validator createValidator() {
+        return Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory()
+                .getValidator();
+    }
+
+    /**
+     * {@link ObjectMapper} с теми же настройками чтения, что и по умолчанию в Spring Boot
+     */
+    static ObjectMapper createObjectMapper() {
+        return new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @SneakyThrows
+    static ExecutorService createExecutor(String type, int threads) {
+        if ("virtual".equals(type)) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Виртуальные потоки доступны начиная с Java 21, текущая версия "
+                        + Runtime.version().feature());
+            }
+        }
+        if (!"fixed".equals(type)) {
+            throw new IllegalArgumentException("triangle.edge.executor должен быть fixed или virtual");
+        }
+        return Executors.newFixedThreadPool(threads > 0 ? threads : 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    private static Properties loadProperties() throws IOException {
+        var properties = new Properties();
+        try (InputStream defaults = TriangleEdgeApplication.class.getResourceAsStream("/application.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        }
+        properties.putAll(System.getProperties());
+        return properties;
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.trianglecalculator.edge;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.validation.Validator;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleValidationErrors;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.service.TriangleAuditLog;
+import org.example.trianglecalculator.service.TriangleComputeService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * HTTP-сервер режима edge на {@link HttpServer} из состава JDK.
+ * <p>
+ * Обслуживает тот же контракт, что и {@link org.example.trianglecalculator.controller.TriangleCalculationController}:
+ * {@code POST /api/v1/triangle/info} принимает {@link TriangleDataRequest} и возвращает
+ * {@link org.example.trianglecalculator.dto.TriangleDataResponse}, ошибки возвращаются со статусом 400
+ * в формате {@link TriangleValidationErrors}, непредвиденные ошибки - со статусом 500.
+ */
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleEdgeServer {
+
+    static final String INFO_PATH = "/api/v1/triangle/info";
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final String INTERNAL_ERROR = "Внутренняя ошибка сервера";
+
+    TriangleComputeService triangleComputeService;
+    TriangleAuditLog triangleAuditLog;
+    Validator validator;
+    ObjectMapper objectMapper;
+    ExecutorService executor;
+    HttpServer server;
+
+    /**
+     * @param port     порт, 0 - любой свободный
+     * @param executor пул, в котором обрабатываются запросы
+     */
+    public TriangleEdgeServer(TriangleComputeService triangleComputeService, TriangleAuditLog triangleAuditLog,
+                              Validator validator, ObjectMapper objectMapper, int port,
+                              ExecutorService executor) throws IOException {
+        this.triangleComputeService = triangleComputeService;
+        this.triangleAuditLog = triangleAuditLog;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.createContext(INFO_PATH, this::handleTriangleInfo);
+        this.server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        triangleAuditLog.close();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleTriangleInfo(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                processTriangleInfo(exchange);
+            } catch (RuntimeException | JsonProcessingException e) {
+                // как и в основном режиме, непредвиденная ошибка расчета или сериализации ответа
+                // возвращается со статусом 500, если ответ еще не начат
+                log.error("Ошибка обработки запроса {}", exchange.getRequestURI(), e);
+                if (exchange.getResponseCode() == -1) {
+                    sendJson(exchange, 500, new TriangleValidationErrors(List.of(INTERNAL_ERROR)));
+                }
+            }
+        }
+    }
+
+    private void processTriangleInfo(HttpExchange exchange) throws IOException {
+        // контекст HttpServer сопоставляется по префиксу пути, остальные пути под ним не обслуживаются
+        if (!INFO_PATH.equals(exchange.getRequestURI().getPath())) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            exchange.sendResponseHeaders(405, -1);
+            return;
+        }
+
+        TriangleDataRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = objectMapper.readValue(body, TriangleDataRequest.class);
+        } catch (JsonProcessingException e) {
+            sendJson(exchange, 400, new TriangleValidationErrors(List.of(TriangleValidationErrors.MALFORMED_BODY)));
+            return;
+        }
+
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            var errors = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .toList();
+            triangleAuditLog.auditRejected(request, errors);
+            sendJson(exchange, 400, new TriangleValidationErrors(errors));
+            return;
+        }
+
+        try {
+            sendJson(exchange, 200,
+                    triangleAuditLog.audit(request, () -> triangleComputeService.getTriangleInfo(request)));
+        } catch (TriangleValidateException e) {
+            sendJson(exchange, 400, new TriangleValidationErrors(e.getErrors()));
+        }
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
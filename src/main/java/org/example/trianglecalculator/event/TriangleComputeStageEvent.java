@@ -0,0 +1,22 @@
+package org.example.trianglecalculator.event;
+
+import jdk.jfr.*;
+
+/**
+ * Событие Java Flight Recorder для отдельного этапа расчета в
+ * {@link org.example.trianglecalculator.service.TriangleComputeService}.
+ * Вложено в {@link TriangleRequestEvent} и по умолчанию выключено, включается настройками записи.
+ * Этапы выполняются за наносекунды, поэтому порог по умолчанию нулевой: включенное событие записывается всегда.
+ */
+@Name("org.example.trianglecalculator.TriangleComputeStage")
+@Label("Triangle Compute Stage")
+@Category("Triangle Calculator")
+@Description("Этап расчета параметров треугольника")
+@StackTrace(false)
+@Enabled(false)
+@Threshold("0 ms")
+public class TriangleComputeStageEvent extends Event {
+
+    @Label("Stage")
+    public String stage;
+}
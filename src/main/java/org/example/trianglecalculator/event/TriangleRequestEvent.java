@@ -0,0 +1,39 @@
+package org.example.trianglecalculator.event;
+
+import jdk.jfr.*;
+
+/**
+ * Событие Java Flight Recorder для одного запроса расчета параметров треугольника.
+ * По умолчанию записываются только запросы длительнее 1 мс, поэтому событие можно не отключать под нагрузкой.
+ */
+@Name("org.example.trianglecalculator.TriangleRequest")
+@Label("Triangle Request")
+@Category("Triangle Calculator")
+@Description("Расчет параметров треугольника для одного запроса")
+@StackTrace(false)
+@Threshold("1 ms")
+public class TriangleRequestEvent extends Event {
+
+    public static final String VALID = "VALID";
+    public static final String INVALID = "INVALID";
+
+    @Label("Validation Outcome")
+    public String validationOutcome;
+
+    @Label("Validation Errors")
+    public String validationErrors;
+
+    @Label("Side Type")
+    public String sideType;
+
+    @Label("Angle Type")
+    public String angleType;
+
+    @Label("Right Triangle Info")
+    @Description("Ответ содержит блок прямоугольного треугольника")
+    public boolean rightTriangleInfo;
+
+    @Label("Similarity Cache Hit")
+    @Description("Результат взят из кэша подобия, расчет не выполнялся")
+    public boolean similarityCacheHit;
+}
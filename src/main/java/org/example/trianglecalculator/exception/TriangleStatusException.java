@@ -0,0 +1,20 @@
+package org.example.trianglecalculator.exception;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Ошибка запроса к задачам и сессиям, которая возвращается клиенту с заданным HTTP-статусом
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor
+public class TriangleStatusException extends QuietException {
+
+    HttpStatus status;
+    String error;
+
+}
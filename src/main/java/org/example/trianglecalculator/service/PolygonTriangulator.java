@@ -0,0 +1,696 @@
+/*
+ * Based on earcut (https://github.com/mapbox/earcut), distributed under the ISC License:
+ *
+ * ISC License
+ *
+ * Copyright (c) 2016, Mapbox
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any purpose
+ * with or without fee is hereby granted, provided that the above copyright notice
+ * and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND ISC DISCLAIMS ALL WARRANTIES WITH REGARD TO
+ * THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS.
+ * IN NO EVENT SHALL ISC BE LIABLE FOR ANY SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL
+ * DAMAGES OR ANY DAMAGES WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS,
+ * WHETHER IN AN ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF
+ * OR IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package org.example.trianglecalculator.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Триангуляция простого многоугольника с отверстиями отсечением ушей.
+ * <p>
+ * Вершины многоугольника хранятся в двусвязном кольцевом списке. Отверстия соединяются с внешним контуром
+ * мостами, после чего получается один контур. Проверка уха ищет вершины внутри треугольника не по всему
+ * контуру, а по вершинам, близким на кривой Мортона (z-order) к ограничивающему прямоугольнику уха,
+ * поэтому на практических многоугольниках время триангуляции близко к линейному.
+ * <p>
+ * Если уши закончились, а контур не пуст, выполняются проходы восстановления: удаление совпадающих и
+ * коллинеарных точек, устранение локальных самопересечений и разрезание контура по допустимой диагонали.
+ * Части контура после прохода восстановления или разрезания обрабатываются через стек, а не рекурсией,
+ * поэтому глубина стека вызовов не зависит от количества вершин.
+ * <p>
+ * Реализация основана на библиотеке earcut (Mapbox, лицензия ISC, текст лицензии в начале файла).
+ */
+final class PolygonTriangulator {
+
+    /**
+     * Минимальное количество вершин, начиная с которого используется поиск по кривой Мортона
+     */
+    private static final int HASH_THRESHOLD = 80;
+
+    private PolygonTriangulator() {
+    }
+
+    /**
+     * Триангуляция
+     *
+     * @param coordinates координаты вершин подряд: x0, y0, x1, y1, ... - сначала внешний контур, затем отверстия
+     * @param holeStarts  номера первых вершин отверстий
+     * @return номера вершин треугольников, по три на треугольник
+     */
+    static int[] triangulate(double[] coordinates, int[] holeStarts) {
+        int outerEnd = holeStarts.length > 0 ? holeStarts[0] * 2 : coordinates.length;
+        var triangles = new TriangleBuffer(coordinates.length / 2 + 2 * holeStarts.length);
+
+        Node outer = linkedList(coordinates, 0, outerEnd, true);
+        if (outer == null || outer.next == outer.prev) {
+            return triangles.toArray();
+        }
+        if (holeStarts.length > 0) {
+            outer = eliminateHoles(coordinates, holeStarts, outer);
+        }
+
+        var bounds = new Bounds();
+        if (coordinates.length > HASH_THRESHOLD * 2) {
+            double minX = coordinates[0];
+            double minY = coordinates[1];
+            double maxX = minX;
+            double maxY = minY;
+            for (int i = 2; i < outerEnd; i += 2) {
+                minX = Math.min(minX, coordinates[i]);
+                minY = Math.min(minY, coordinates[i + 1]);
+                maxX = Math.max(maxX, coordinates[i]);
+                maxY = Math.max(maxY, coordinates[i + 1]);
+            }
+            double size = Math.max(maxX - minX, maxY - minY);
+            bounds.minX = minX;
+            bounds.minY = minY;
+            bounds.invSize = size != 0 ? 32767 / size : 0;
+        }
+
+        Deque<Contour> contours = new ArrayDeque<>();
+        contours.push(new Contour(outer, 0));
+        while (!contours.isEmpty()) {
+            var contour = contours.pop();
+            earcutLinked(contour.ear(), triangles, bounds, contour.pass(), contours);
+        }
+        return triangles.toArray();
+    }
+
+    /**
+     * Отсечение ушей одного контура. Если уши закончились, контур для следующего прохода
+     * или части разрезанного контура помещаются в {@code contours}
+     */
+    private static void earcutLinked(Node ear, TriangleBuffer triangles, Bounds bounds, int pass,
+                                     Deque<Contour> contours) {
+        if (ear == null) {
+            return;
+        }
+        boolean hashed = bounds.invSize != 0;
+        if (pass == 0 && hashed) {
+            indexCurve(ear, bounds);
+        }
+
+        Node stop = ear;
+        while (ear.prev != ear.next) {
+            Node prev = ear.prev;
+            Node next = ear.next;
+
+            if (hashed ? isEarHashed(ear, bounds) : isEar(ear)) {
+                triangles.add(prev.i, ear.i, next.i);
+                removeNode(ear);
+                ear = next.next;
+                stop = next.next;
+                continue;
+            }
+
+            ear = next;
+            if (ear == stop) {
+                if (pass == 0) {
+                    contours.push(new Contour(filterPoints(ear, null), 1));
+                } else if (pass == 1) {
+                    contours.push(new Contour(cureLocalIntersections(filterPoints(ear, null), triangles), 2));
+                } else {
+                    splitEarcut(ear, contours);
+                }
+                break;
+            }
+        }
+    }
+
+    private static boolean isEar(Node ear) {
+        Node a = ear.prev;
+        Node b = ear;
+        Node c = ear.next;
+        if (area(a, b, c) >= 0) {
+            return false;
+        }
+
+        double x0 = Math.min(a.x, Math.min(b.x, c.x));
+        double y0 = Math.min(a.y, Math.min(b.y, c.y));
+        double x1 = Math.max(a.x, Math.max(b.x, c.x));
+        double y1 = Math.max(a.y, Math.max(b.y, c.y));
+
+        for (Node p = c.next; p != a; p = p.next) {
+            if (p.x >= x0 && p.x <= x1 && p.y >= y0 && p.y <= y1
+                    && pointInTriangle(a.x, a.y, b.x, b.y, c.x, c.y, p.x, p.y)
+                    && area(p.prev, p, p.next) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEarHashed(Node ear, Bounds bounds) {
+        Node a = ear.prev;
+        Node b = ear;
+        Node c = ear.next;
+        if (area(a, b, c) >= 0) {
+            return false;
+        }
+
+        double x0 = Math.min(a.x, Math.min(b.x, c.x));
+        double y0 = Math.min(a.y, Math.min(b.y, c.y));
+        double x1 = Math.max(a.x, Math.max(b.x, c.x));
+        double y1 = Math.max(a.y, Math.max(b.y, c.y));
+        int minZ = zOrder(x0, y0, bounds);
+        int maxZ = zOrder(x1, y1, bounds);
+
+        Node p = ear.prevZ;
+        Node n = ear.nextZ;
+        while (p != null && p.z >= minZ && n != null && n.z <= maxZ) {
+            if (blocksEar(p, a, b, c, x0, y0, x1, y1)) {
+                return false;
+            }
+            p = p.prevZ;
+            if (blocksEar(n, a, b, c, x0, y0, x1, y1)) {
+                return false;
+            }
+            n = n.nextZ;
+        }
+        while (p != null && p.z >= minZ) {
+            if (blocksEar(p, a, b, c, x0, y0, x1, y1)) {
+                return false;
+            }
+            p = p.prevZ;
+        }
+        while (n != null && n.z <= maxZ) {
+            if (blocksEar(n, a, b, c, x0, y0, x1, y1)) {
+                return false;
+            }
+            n = n.nextZ;
+        }
+        return true;
+    }
+
+    /**
+     * Вершина лежит внутри уха и является вогнутой, то есть ухо отсекать нельзя
+     */
+    private static boolean blocksEar(Node p, Node a, Node b, Node c, double x0, double y0, double x1, double y1) {
+        return p != a && p != c
+                && p.x >= x0 && p.x <= x1 && p.y >= y0 && p.y <= y1
+                && pointInTriangle(a.x, a.y, b.x, b.y, c.x, c.y, p.x, p.y)
+                && area(p.prev, p, p.next) >= 0;
+    }
+
+    /**
+     * Отсечение треугольников в местах, где соседние ребра контура пересекаются
+     */
+    private static Node cureLocalIntersections(Node start, TriangleBuffer triangles) {
+        Node p = start;
+        do {
+            Node a = p.prev;
+            Node b = p.next.next;
+            if (!equals(a, b) && intersects(a, p, p.next, b) && locallyInside(a, b) && locallyInside(b, a)) {
+                triangles.add(a.i, p.i, b.i);
+                removeNode(p);
+                removeNode(p.next);
+                p = start = b;
+            }
+            p = p.next;
+        } while (p != start);
+        return filterPoints(p, null);
+    }
+
+    /**
+     * Разрезание контура по первой допустимой диагонали, части триангулируются по отдельности, первая - раньше
+     */
+    private static void splitEarcut(Node start, Deque<Contour> contours) {
+        Node a = start;
+        do {
+            Node b = a.next.next;
+            while (b != a.prev) {
+                if (a.i != b.i && isValidDiagonal(a, b)) {
+                    Node c = splitPolygon(a, b);
+                    a = filterPoints(a, a.next);
+                    c = filterPoints(c, c.next);
+                    contours.push(new Contour(c, 0));
+                    contours.push(new Contour(a, 0));
+                    return;
+                }
+                b = b.next;
+            }
+            a = a.next;
+        } while (a != start);
+    }
+
+    /**
+     * Соединение отверстий с внешним контуром в порядке слева направо
+     */
+    private static Node eliminateHoles(double[] coordinates, int[] holeStarts, Node outer) {
+        List<Node> queue = new ArrayList<>(holeStarts.length);
+        for (int i = 0; i < holeStarts.length; i++) {
+            int start = holeStarts[i] * 2;
+            int end = i < holeStarts.length - 1 ? holeStarts[i + 1] * 2 : coordinates.length;
+            Node list = linkedList(coordinates, start, end, false);
+            if (list == null) {
+                continue;
+            }
+            if (list == list.next) {
+                list.steiner = true;
+            }
+            queue.add(getLeftmost(list));
+        }
+        queue.sort(Comparator.comparingDouble((Node node) -> node.x).thenComparingDouble(node -> node.y));
+
+        for (Node hole : queue) {
+            outer = eliminateHole(hole, outer);
+        }
+        return outer;
+    }
+
+    private static Node eliminateHole(Node hole, Node outer) {
+        Node bridge = findHoleBridge(hole, outer);
+        if (bridge == null) {
+            return outer;
+        }
+        Node bridgeReverse = splitPolygon(bridge, hole);
+        filterPoints(bridgeReverse, bridgeReverse.next);
+        return filterPoints(bridge, bridge.next);
+    }
+
+    /**
+     * Поиск вершины внешнего контура, видимой из самой левой вершины отверстия
+     */
+    private static Node findHoleBridge(Node hole, Node outer) {
+        Node p = outer;
+        double hx = hole.x;
+        double hy = hole.y;
+        double qx = Double.NEGATIVE_INFINITY;
+        Node m = null;
+
+        do {
+            if (hy <= p.y && hy >= p.next.y && p.next.y != p.y) {
+                double x = p.x + (hy - p.y) * (p.next.x - p.x) / (p.next.y - p.y);
+                if (x <= hx && x > qx) {
+                    qx = x;
+                    m = p.x < p.next.x ? p : p.next;
+                    if (x == hx) {
+                        return m;
+                    }
+                }
+            }
+            p = p.next;
+        } while (p != outer);
+
+        if (m == null) {
+            return null;
+        }
+
+        Node stop = m;
+        double mx = m.x;
+        double my = m.y;
+        double tanMin = Double.POSITIVE_INFINITY;
+        p = m;
+        do {
+            if (hx >= p.x && p.x >= mx && hx != p.x
+                    && pointInTriangle(hy < my ? hx : qx, hy, mx, my, hy < my ? qx : hx, hy, p.x, p.y)) {
+                double tan = Math.abs(hy - p.y) / (hx - p.x);
+                if (locallyInside(p, hole)
+                        && (tan < tanMin || (tan == tanMin && (p.x > m.x || (p.x == m.x && sectorContainsSector(m, p)))))) {
+                    m = p;
+                    tanMin = tan;
+                }
+            }
+            p = p.next;
+        } while (p != stop);
+        return m;
+    }
+
+    private static boolean sectorContainsSector(Node m, Node p) {
+        return area(m.prev, m, p.prev) < 0 && area(p.next, m, m.next) < 0;
+    }
+
+    private static void indexCurve(Node start, Bounds bounds) {
+        Node p = start;
+        do {
+            if (p.z == 0) {
+                p.z = zOrder(p.x, p.y, bounds);
+            }
+            p.prevZ = p.prev;
+            p.nextZ = p.next;
+            p = p.next;
+        } while (p != start);
+
+        p.prevZ.nextZ = null;
+        p.prevZ = null;
+        sortLinked(p);
+    }
+
+    /**
+     * Сортировка списка по z-order слиянием без выделения памяти
+     */
+    private static void sortLinked(Node list) {
+        int inSize = 1;
+        int numMerges;
+        do {
+            Node p = list;
+            list = null;
+            Node tail = null;
+            numMerges = 0;
+
+            while (p != null) {
+                numMerges++;
+                Node q = p;
+                int pSize = 0;
+                for (int i = 0; i < inSize; i++) {
+                    pSize++;
+                    q = q.nextZ;
+                    if (q == null) {
+                        break;
+                    }
+                }
+                int qSize = inSize;
+
+                while (pSize > 0 || (qSize > 0 && q != null)) {
+                    Node e;
+                    if (pSize != 0 && (qSize == 0 || q == null || p.z <= q.z)) {
+                        e = p;
+                        p = p.nextZ;
+                        pSize--;
+                    } else {
+                        e = q;
+                        q = q.nextZ;
+                        qSize--;
+                    }
+                    if (tail != null) {
+                        tail.nextZ = e;
+                    } else {
+                        list = e;
+                    }
+                    e.prevZ = tail;
+                    tail = e;
+                }
+                p = q;
+            }
+            tail.nextZ = null;
+            inSize *= 2;
+        } while (numMerges > 1);
+    }
+
+    /**
+     * Номер точки на кривой Мортона: биты координат, приведенных к 15 битам, чередуются
+     */
+    private static int zOrder(double px, double py, Bounds bounds) {
+        int x = (int) ((px - bounds.minX) * bounds.invSize);
+        int y = (int) ((py - bounds.minY) * bounds.invSize);
+
+        x = (x | (x << 8)) & 0x00FF00FF;
+        x = (x | (x << 4)) & 0x0F0F0F0F;
+        x = (x | (x << 2)) & 0x33333333;
+        x = (x | (x << 1)) & 0x55555555;
+
+        y = (y | (y << 8)) & 0x00FF00FF;
+        y = (y | (y << 4)) & 0x0F0F0F0F;
+        y = (y | (y << 2)) & 0x33333333;
+        y = (y | (y << 1)) & 0x55555555;
+
+        return x | (y << 1);
+    }
+
+    private static Node getLeftmost(Node start) {
+        Node p = start;
+        Node leftmost = start;
+        do {
+            if (p.x < leftmost.x || (p.x == leftmost.x && p.y < leftmost.y)) {
+                leftmost = p;
+            }
+            p = p.next;
+        } while (p != start);
+        return leftmost;
+    }
+
+    private static boolean pointInTriangle(double ax, double ay, double bx, double by, double cx, double cy,
+                                           double px, double py) {
+        return (cx - px) * (ay - py) >= (ax - px) * (cy - py)
+                && (ax - px) * (by - py) >= (bx - px) * (ay - py)
+                && (bx - px) * (cy - py) >= (cx - px) * (by - py);
+    }
+
+    /**
+     * Диагональ ab не пересекает ребра контура и проходит внутри многоугольника
+     */
+    private static boolean isValidDiagonal(Node a, Node b) {
+        return a.next.i != b.i && a.prev.i != b.i && !intersectsPolygon(a, b)
+                && (locallyInside(a, b) && locallyInside(b, a) && middleInside(a, b)
+                && (area(a.prev, a, b.prev) != 0 || area(a, b.prev, b) != 0)
+                || equals(a, b) && area(a.prev, a, a.next) > 0 && area(b.prev, b, b.next) > 0);
+    }
+
+    /**
+     * Удвоенная ориентированная площадь треугольника pqr, отрицательная при обходе против часовой стрелки
+     */
+    private static double area(Node p, Node q, Node r) {
+        return (q.y - p.y) * (r.x - q.x) - (q.x - p.x) * (r.y - q.y);
+    }
+
+    private static boolean equals(Node p1, Node p2) {
+        return p1.x == p2.x && p1.y == p2.y;
+    }
+
+    private static boolean intersects(Node p1, Node q1, Node p2, Node q2) {
+        int o1 = sign(area(p1, q1, p2));
+        int o2 = sign(area(p1, q1, q2));
+        int o3 = sign(area(p2, q2, p1));
+        int o4 = sign(area(p2, q2, q1));
+
+        if (o1 != o2 && o3 != o4) {
+            return true;
+        }
+        return o1 == 0 && onSegment(p1, p2, q1)
+                || o2 == 0 && onSegment(p1, q2, q1)
+                || o3 == 0 && onSegment(p2, p1, q2)
+                || o4 == 0 && onSegment(p2, q1, q2);
+    }
+
+    private static boolean onSegment(Node p, Node q, Node r) {
+        return q.x <= Math.max(p.x, r.x) && q.x >= Math.min(p.x, r.x)
+                && q.y <= Math.max(p.y, r.y) && q.y >= Math.min(p.y, r.y);
+    }
+
+    private static int sign(double value) {
+        return value > 0 ? 1 : value < 0 ? -1 : 0;
+    }
+
+    private static boolean intersectsPolygon(Node a, Node b) {
+        Node p = a;
+        do {
+            if (p.i != a.i && p.next.i != a.i && p.i != b.i && p.next.i != b.i && intersects(p, p.next, a, b)) {
+                return true;
+            }
+            p = p.next;
+        } while (p != a);
+        return false;
+    }
+
+    private static boolean locallyInside(Node a, Node b) {
+        return area(a.prev, a, a.next) < 0
+                ? area(a, b, a.next) >= 0 && area(a, a.prev, b) >= 0
+                : area(a, b, a.prev) < 0 || area(a, a.next, b) < 0;
+    }
+
+    private static boolean middleInside(Node a, Node b) {
+        Node p = a;
+        boolean inside = false;
+        double px = (a.x + b.x) / 2;
+        double py = (a.y + b.y) / 2;
+        do {
+            if (((p.y > py) != (p.next.y > py)) && p.next.y != p.y
+                    && (px < (p.next.x - p.x) * (py - p.y) / (p.next.y - p.y) + p.x)) {
+                inside = !inside;
+            }
+            p = p.next;
+        } while (p != a);
+        return inside;
+    }
+
+    /**
+     * Разрезание контура диагональю ab на два контура, вершины a и b дублируются
+     *
+     * @return копия вершины b во втором контуре
+     */
+    private static Node splitPolygon(Node a, Node b) {
+        Node a2 = new Node(a.i, a.x, a.y);
+        Node b2 = new Node(b.i, b.x, b.y);
+        Node an = a.next;
+        Node bp = b.prev;
+
+        a.next = b;
+        b.prev = a;
+
+        a2.next = an;
+        an.prev = a2;
+
+        b2.next = a2;
+        a2.prev = b2;
+
+        bp.next = b2;
+        b2.prev = bp;
+
+        return b2;
+    }
+
+    /**
+     * Построение кольцевого списка вершин с заданным направлением обхода
+     */
+    private static Node linkedList(double[] coordinates, int start, int end, boolean clockwise) {
+        Node last = null;
+        if (clockwise == (signedArea(coordinates, start, end) > 0)) {
+            for (int i = start; i < end; i += 2) {
+                last = insertNode(i / 2, coordinates[i], coordinates[i + 1], last);
+            }
+        } else {
+            for (int i = end - 2; i >= start; i -= 2) {
+                last = insertNode(i / 2, coordinates[i], coordinates[i + 1], last);
+            }
+        }
+
+        if (last != null && equals(last, last.next)) {
+            removeNode(last);
+            last = last.next;
+        }
+        return last;
+    }
+
+    /**
+     * Удаление совпадающих и коллинеарных вершин
+     */
+    private static Node filterPoints(Node start, Node end) {
+        if (start == null) {
+            return null;
+        }
+        if (end == null) {
+            end = start;
+        }
+
+        Node p = start;
+        boolean again;
+        do {
+            again = false;
+            if (!p.steiner && (equals(p, p.next) || area(p.prev, p, p.next) == 0)) {
+                removeNode(p);
+                p = end = p.prev;
+                if (p == p.next) {
+                    break;
+                }
+                again = true;
+            } else {
+                p = p.next;
+            }
+        } while (again || p != end);
+        return end;
+    }
+
+    private static Node insertNode(int i, double x, double y, Node last) {
+        Node p = new Node(i, x, y);
+        if (last == null) {
+            p.prev = p;
+            p.next = p;
+        } else {
+            p.next = last.next;
+            p.prev = last;
+            last.next.prev = p;
+            last.next = p;
+        }
+        return p;
+    }
+
+    private static void removeNode(Node p) {
+        p.next.prev = p.prev;
+        p.prev.next = p.next;
+        if (p.prevZ != null) {
+            p.prevZ.nextZ = p.nextZ;
+        }
+        if (p.nextZ != null) {
+            p.nextZ.prevZ = p.prevZ;
+        }
+    }
+
+    private static double signedArea(double[] coordinates, int start, int end) {
+        double sum = 0;
+        for (int i = start, j = end - 2; i < end; i += 2) {
+            sum += (coordinates[j] - coordinates[i]) * (coordinates[i + 1] + coordinates[j + 1]);
+            j = i;
+        }
+        return sum;
+    }
+
+    /**
+     * Контур, ожидающий отсечения ушей, и номер прохода
+     */
+    private record Contour(Node ear, int pass) {
+    }
+
+    /**
+     * Вершина контура
+     */
+    private static final class Node {
+
+        final int i;
+        final double x;
+        final double y;
+        Node prev;
+        Node next;
+        int z;
+        Node prevZ;
+        Node nextZ;
+        boolean steiner;
+
+        Node(int i, double x, double y) {
+            this.i = i;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * Параметры приведения координат к сетке кривой Мортона, {@code invSize == 0} - поиск по кривой не используется
+     */
+    private static final class Bounds {
+        double minX;
+        double minY;
+        double invSize;
+    }
+
+    private static final class TriangleBuffer {
+
+        int[] indices;
+        int size;
+
+        TriangleBuffer(int expectedTriangles) {
+            this.indices = new int[Math.max(3, expectedTriangles * 3)];
+        }
+
+        void add(int a, int b, int c) {
+            if (size + 3 > indices.length) {
+                indices = Arrays.copyOf(indices, indices.length * 2);
+            }
+            indices[size++] = a;
+            indices[size++] = b;
+            indices[size++] = c;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(indices, size);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleAngleType;
+import org.example.trianglecalculator.domain.TriangleSideType;
+import org.example.trianglecalculator.dto.TriangleAuditRecord;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Двоичный формат файлов журнала аудита.
+ * <p>
+ * Файл начинается с заголовка: {@code int} {@value #MAGIC} и {@code short} версия формата.
+ * Далее записи подряд без разделителей:
+ * <ul>
+ *     <li>{@code long} время начала обработки, {@code long} время обработки в наносекундах;</li>
+ *     <li>шесть {@code double}: стороны AB, BC, AC и углы A, B, C;</li>
+ *     <li>{@code byte} {@value #COMPUTED} - треугольник рассчитан, далее {@code double} площадь,
+ *     {@code double} периметр, {@code byte} порядковые номера {@link TriangleSideType} и {@link TriangleAngleType};</li>
+ *     <li>{@code byte} {@value #REJECTED} - запрос отклонен, далее {@code short} количество ошибок
+ *     и ошибки в модифицированной UTF-8 ({@link DataOutput#writeUTF}).</li>
+ * </ul>
+ * Запись, оборванная при аварийной остановке, при чтении пропускается.
+ */
+public final class TriangleAuditFormat {
+
+    static final int MAGIC = 0x54415544;
+    static final short VERSION = 1;
+
+    private static final byte COMPUTED = 0;
+    private static final byte REJECTED = 1;
+    private static final int MAX_ERROR_LENGTH = 16_384;
+
+    private TriangleAuditFormat() {
+    }
+
+    static void writeHeader(DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+    }
+
+    static void write(DataOutput output, TriangleAuditRecord record) throws IOException {
+        output.writeLong(record.timestamp());
+        output.writeLong(record.durationNanos());
+        output.writeDouble(record.sideAB());
+        output.writeDouble(record.sideBC());
+        output.writeDouble(record.sideAC());
+        output.writeDouble(record.angleA());
+        output.writeDouble(record.angleB());
+        output.writeDouble(record.angleC());
+        if (!record.isRejected()) {
+            output.writeByte(COMPUTED);
+            output.writeDouble(record.area());
+            output.writeDouble(record.perimeter());
+            output.writeByte(record.sideType().ordinal());
+            output.writeByte(record.angleType().ordinal());
+        } else {
+            output.writeByte(REJECTED);
+            int count = Math.min(record.errors().size(), Short.MAX_VALUE);
+            output.writeShort(count);
+            for (int i = 0; i < count; i++) {
+                String error = record.errors().get(i);
+                output.writeUTF(truncate(error));
+            }
+        }
+    }
+
+    /**
+     * Обрезка ошибки до {@value #MAX_ERROR_LENGTH} символов без разрыва суррогатной пары
+     */
+    static String truncate(String error) {
+        if (error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        int end = Character.isHighSurrogate(error.charAt(MAX_ERROR_LENGTH - 1)) ? MAX_ERROR_LENGTH - 1 : MAX_ERROR_LENGTH;
+        return error.substring(0, end);
+    }
+
+    /**
+     * Чтение всех записей файла журнала аудита
+     *
+     * @param file файл журнала
+     * @return записи в порядке записи
+     * @throws IOException если файл не читается или не является журналом аудита
+     */
+    public static List<TriangleAuditRecord> readFile(Path file) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Файл " + file + " не является журналом аудита");
+            }
+            short version = input.readShort();
+            if (version != VERSION) {
+                throw new IOException("Неподдерживаемая версия журнала аудита " + version + " в файле " + file);
+            }
+            List<TriangleAuditRecord> records = new ArrayList<>();
+            while (true) {
+                try {
+                    records.add(read(input));
+                } catch (EOFException e) {
+                    return records;
+                }
+            }
+        }
+    }
+
+    private static TriangleAuditRecord read(DataInput input) throws IOException {
+        long timestamp = input.readLong();
+        long durationNanos = input.readLong();
+        double sideAB = input.readDouble();
+        double sideBC = input.readDouble();
+        double sideAC = input.readDouble();
+        double angleA = input.readDouble();
+        double angleB = input.readDouble();
+        double angleC = input.readDouble();
+        byte outcome = input.readByte();
+        if (outcome == COMPUTED) {
+            double area = input.readDouble();
+            double perimeter = input.readDouble();
+            var sideType = TriangleSideType.values()[input.readByte()];
+            var angleType = TriangleAngleType.values()[input.readByte()];
+            return new TriangleAuditRecord(timestamp, durationNanos, sideAB, sideBC, sideAC, angleA, angleB, angleC,
+                    area, perimeter, sideType, angleType, List.of());
+        }
+        if (outcome != REJECTED) {
+            throw new IOException("Неизвестный результат записи журнала аудита: " + outcome);
+        }
+        int count = input.readShort();
+        List<String> errors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            errors.add(input.readUTF());
+        }
+        return new TriangleAuditRecord(timestamp, durationNanos, sideAB, sideBC, sideAC, angleA, angleB, angleC,
+                null, null, null, null, errors);
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.trianglecalculator.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.domain.TriangleAuditOverflowPolicy;
+import org.example.trianglecalculator.dto.TriangleAuditRecord;
+import org.example.trianglecalculator.dto.TriangleAuditStatsData;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleDataResponse;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Журнал аудита запросов расчета треугольника.
+ * <p>
+ * Для каждого запроса сохраняются входные данные, результат (площадь, периметр и типы треугольника
+ * или ошибки валидации) и время обработки. Запрос только помещает запись в {@link TriangleAuditRingBuffer},
+ * в файлы записи пишет {@link TriangleAuditWriter} в отдельном потоке. При заполненном буфере запись
+ * отбрасывается или запрос ждет освобождения места в зависимости от {@link TriangleAuditOverflowPolicy}.
+ * Выключенный журнал не создает ни буфера, ни потока записи.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleAuditLog {
+
+    private static final long BLOCK_PARK_NANOS = 50_000;
+
+    TriangleAuditOverflowPolicy overflowPolicy;
+    TriangleAuditRingBuffer<TriangleAuditRecord> buffer;
+    TriangleAuditWriter writer;
+    LongAdder recorded = new LongAdder();
+    LongAdder dropped = new LongAdder();
+    LongAdder blocked = new LongAdder();
+
+    /**
+     * @param enabled         включение журнала
+     * @param directory       каталог файлов журнала
+     * @param bufferCapacity  емкость буфера записей, округляется вверх до степени двойки
+     * @param overflowPolicy  поведение при заполненном буфере
+     * @param batchSize       максимальное количество записей, записываемых в файл за один раз
+     * @param flushIntervalMs время ожидания новых записей потоком записи при пустом буфере
+     * @param maxFileSize     размер файла в байтах, после которого начинается новый файл
+     * @param maxFiles        количество хранимых файлов, более старые удаляются
+     */
+    public TriangleAuditLog(@Value("${triangle.audit.enabled:false}") boolean enabled,
+                            @Value("${triangle.audit.directory:audit}") Path directory,
+                            @Value("${triangle.audit.buffer-capacity:65536}") int bufferCapacity,
+                            @Value("${triangle.audit.overflow-policy:DROP}") TriangleAuditOverflowPolicy overflowPolicy,
+                            @Value("${triangle.audit.batch-size:1024}") int batchSize,
+                            @Value("${triangle.audit.flush-interval-ms:50}") long flushIntervalMs,
+                            @Value("${triangle.audit.max-file-size:67108864}") long maxFileSize,
+                            @Value("${triangle.audit.max-files:20}") int maxFiles) {
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = enabled ? new TriangleAuditRingBuffer<>(bufferCapacity) : null;
+        this.writer = enabled
+                ? new TriangleAuditWriter(buffer, directory, batchSize, flushIntervalMs, maxFileSize, maxFiles)
+                : null;
+    }
+
+    /**
+     * Расчет треугольника с записью в журнал аудита
+     *
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов
+     * @param compute расчет параметров треугольника
+     * @return результат расчета
+     * @throws TriangleValidateException если нельзя построить треугольник по заданным параметрам,
+     *                                   ошибки также записываются в журнал
+     */
+    public TriangleDataResponse audit(TriangleDataRequest request, Supplier<TriangleDataResponse> compute) {
+        if (writer == null) {
+            return compute.get();
+        }
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        try {
+            var response = compute.get();
+            record(new TriangleAuditRecord(timestamp, System.nanoTime() - start,
+                    request.getSideAB(), request.getSideBC(), request.getSideAC(),
+                    request.getAngleA(), request.getAngleB(), request.getAngleC(),
+                    response.getArea(), response.getPerimeter(), response.getSideType(), response.getAngleType(),
+                    List.of()));
+            return response;
+        } catch (TriangleValidateException e) {
+            record(rejectedRecord(request, timestamp, System.nanoTime() - start, e.getErrors()));
+            throw e;
+        }
+    }
+
+    /**
+     * Запись в журнал аудита запроса, отклоненного до расчета, например, из-за отрицательной длины стороны
+     *
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов
+     * @param errors  ошибки валидации
+     */
+    public void auditRejected(TriangleDataRequest request, List<String> errors) {
+        if (writer != null) {
+            record(rejectedRecord(request, System.currentTimeMillis(), 0, errors));
+        }
+    }
+
+    /**
+     * Показатели журнала аудита: количество записанных и потерянных записей, заполненность буфера
+     * и задержка записи в файлы
+     *
+     * @return {@link TriangleAuditStatsData}
+     */
+    public TriangleAuditStatsData getStats() {
+        if (writer == null) {
+            return new TriangleAuditStatsData(false, 0, 0, 0, 0, 0, 0, 0, 0, null);
+        }
+        Path currentFile = writer.getCurrentFile();
+        return new TriangleAuditStatsData(true, recorded.sum(), writer.getWritten(), dropped.sum(), blocked.sum(),
+                writer.getFailed(), buffer.size(), writer.getLastLagMillis(), writer.getMaxLagMillis(),
+                currentFile == null ? null : currentFile.toString());
+    }
+
+    /**
+     * Остановка потока записи, записи, оставшиеся в буфере, дописываются в файл
+     */
+    @PreDestroy
+    public void close() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private void record(TriangleAuditRecord record) {
+        if (!writer.isRunning()) {
+            dropped.increment();
+            return;
+        }
+        if (!buffer.offer(record)) {
+            if (overflowPolicy == TriangleAuditOverflowPolicy.DROP) {
+                dropped.increment();
+                return;
+            }
+            blocked.increment();
+            do {
+                writer.wakeUp();
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (!writer.isRunning()) {
+                    dropped.increment();
+                    return;
+                }
+            } while (!buffer.offer(record));
+        }
+        recorded.increment();
+    }
+
+    private static TriangleAuditRecord rejectedRecord(TriangleDataRequest request, long timestamp,
+                                                      long durationNanos, List<String> errors) {
+        return new TriangleAuditRecord(timestamp, durationNanos,
+                request.getSideAB(), request.getSideBC(), request.getSideAC(),
+                request.getAngleA(), request.getAngleB(), request.getAngleC(),
+                null, null, null, null, List.copyOf(errors));
+    }
+}
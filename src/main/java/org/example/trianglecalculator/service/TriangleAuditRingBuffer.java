@@ -0,0 +1,110 @@
+package org.example.trianglecalculator.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ограниченный кольцевой буфер без блокировок для нескольких писателей и одного читателя.
+ * <p>
+ * У каждой ячейки есть номер последовательности: писатель занимает позицию сдвигом хвоста через CAS
+ * и публикует элемент, увеличивая номер ячейки на единицу, читатель освобождает ячейку, увеличивая номер
+ * на емкость буфера. Писатели не ждут друг друга и читателя, при заполненном буфере {@link #offer} сразу
+ * возвращает {@code false}.
+ *
+ * @param <E> тип элементов
+ */
+final class TriangleAuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity минимальная емкость, округляется вверх до степени двойки, но не меньше 2:
+     *                 при одной ячейке номер занятой ячейки совпадает с номером следующей позиции записи
+     */
+    TriangleAuditRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Емкость буфера должна быть от 1 до 2^30");
+        }
+        this.capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Добавление элемента, вызывается из любого потока
+     *
+     * @return {@code false}, если буфер заполнен
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Извлечение элемента, вызывается только из потока читателя
+     *
+     * @return первый элемент или {@code null}, если буфер пуст
+     */
+    E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.lazySet(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Извлечение до {@code batch.length} элементов подряд, вызывается только из потока читателя
+     *
+     * @return количество извлеченных элементов
+     */
+    int drainTo(E[] batch) {
+        int count = 0;
+        E element;
+        while (count < batch.length && (element = poll()) != null) {
+            batch[count++] = element;
+        }
+        return count;
+    }
+
+    /**
+     * Приблизительное количество элементов в буфере
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
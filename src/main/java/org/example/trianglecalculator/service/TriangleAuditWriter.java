@@ -0,0 +1,259 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleAuditRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Фоновая запись журнала аудита.
+ * <p>
+ * Поток забирает записи из {@link TriangleAuditRingBuffer} партиями, кодирует партию в {@link TriangleAuditFormat}
+ * и записывает ее в файл одним вызовом. Когда файл превышает заданный размер, начинается новый файл,
+ * самые старые файлы сверх заданного количества удаляются. Пока буфер пуст, поток засыпает на интервал сброса.
+ * <p>
+ * Запись, которую не удалось закодировать, засчитывается как неудачная и пропускается, остальные записи партии
+ * сохраняются. Исключение при записи партии в файл, в том числе при удалении старых файлов, засчитывает
+ * как неудачные все записи партии, и поток продолжает разбирать буфер. Если поток все же завершается
+ * из-за ошибки, он помечается остановленным: запросы перестают ждать места в буфере и отбрасывают записи.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+final class TriangleAuditWriter implements Runnable {
+
+    private static final String FILE_PREFIX = "triangle-audit-";
+    private static final String FILE_SUFFIX = ".bin";
+    private static final Pattern FILE_NAME = Pattern.compile(FILE_PREFIX + "(\\d+)" + Pattern.quote(FILE_SUFFIX));
+    private static final int HEADER_SIZE = 6;
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
+    final TriangleAuditRingBuffer<TriangleAuditRecord> buffer;
+    final Path directory;
+    final long maxFileSize;
+    final int maxFiles;
+    final long idleParkNanos;
+    final TriangleAuditRecord[] batch;
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream recordOutput = new DataOutputStream(recordBytes);
+    final AtomicLong written = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final AtomicLong lastLagMillis = new AtomicLong();
+    final AtomicLong maxLagMillis = new AtomicLong();
+    final Thread thread;
+
+    volatile boolean running = true;
+    volatile Path currentFile;
+    FileOutputStream file;
+    long currentSize;
+    long nextSequence;
+
+    /**
+     * @param directory       каталог файлов журнала
+     * @param batchSize       максимальное количество записей в партии
+     * @param flushIntervalMs время сна потока при пустом буфере
+     * @param maxFileSize     размер файла в байтах, после которого начинается новый файл
+     * @param maxFiles        количество хранимых файлов
+     */
+    @SneakyThrows
+    TriangleAuditWriter(TriangleAuditRingBuffer<TriangleAuditRecord> buffer, Path directory, int batchSize,
+                        long flushIntervalMs, long maxFileSize, int maxFiles) {
+        this.buffer = buffer;
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+        this.batch = new TriangleAuditRecord[Math.max(1, batchSize)];
+
+        Files.createDirectories(directory);
+        this.nextSequence = listFiles().stream().mapToLong(TriangleAuditWriter::sequenceOf).max().orElse(0) + 1;
+
+        this.thread = new Thread(this, "triangle-audit-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                int count = buffer.drainTo(batch);
+                if (count > 0) {
+                    writeBatch(count);
+                } else if (!running) {
+                    break;
+                } else {
+                    LockSupport.parkNanos(this, idleParkNanos);
+                }
+            }
+        } catch (Throwable e) {
+            running = false;
+            while (buffer.poll() != null) {
+                failed.incrementAndGet();
+            }
+            throw e;
+        } finally {
+            closeFile();
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Пробуждение потока записи, если он спит при пустом буфере
+     */
+    void wakeUp() {
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Остановка: записи, оставшиеся в буфере, дописываются в файл
+     */
+    void close() {
+        running = false;
+        wakeUp();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getWritten() {
+        return written.get();
+    }
+
+    long getFailed() {
+        return failed.get();
+    }
+
+    long getLastLagMillis() {
+        return lastLagMillis.get();
+    }
+
+    long getMaxLagMillis() {
+        return maxLagMillis.get();
+    }
+
+    Path getCurrentFile() {
+        return currentFile;
+    }
+
+    private void writeBatch(int count) {
+        int encoded = 0;
+        try {
+            bytes.reset();
+            for (int i = 0; i < count; i++) {
+                if (encode(batch[i])) {
+                    encoded++;
+                } else {
+                    failed.incrementAndGet();
+                }
+            }
+            if (encoded == 0) {
+                return;
+            }
+            if (file == null || currentSize > HEADER_SIZE && currentSize + bytes.size() > maxFileSize) {
+                rotate();
+            }
+            bytes.writeTo(file);
+            currentSize += bytes.size();
+            written.addAndGet(encoded);
+            updateLag(batch[0]);
+        } catch (IOException | RuntimeException e) {
+            failed.addAndGet(encoded);
+            closeFile();
+        } finally {
+            Arrays.fill(batch, 0, count, null);
+        }
+    }
+
+    /**
+     * Кодирование записи отдельно от партии: запись, которую не удалось закодировать, пропускается,
+     * остальные записи партии сохраняются
+     *
+     * @return {@code false}, если запись не закодирована
+     */
+    private boolean encode(TriangleAuditRecord record) {
+        try {
+            recordBytes.reset();
+            TriangleAuditFormat.write(recordOutput, record);
+            recordBytes.writeTo(bytes);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Задержка записи считается по самой старой записи партии от момента завершения запроса
+     */
+    private void updateLag(TriangleAuditRecord oldest) {
+        long completed = oldest.timestamp() + TimeUnit.NANOSECONDS.toMillis(oldest.durationNanos());
+        long lag = Math.max(0, System.currentTimeMillis() - completed);
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        Path next = directory.resolve(String.format("%s%010d%s", FILE_PREFIX, nextSequence++, FILE_SUFFIX));
+        file = new FileOutputStream(next.toFile());
+        var header = new DataOutputStream(file);
+        TriangleAuditFormat.writeHeader(header);
+        header.flush();
+        currentSize = HEADER_SIZE;
+        currentFile = next;
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files = listFiles();
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    /**
+     * Файлы журнала в каталоге от старых к новым
+     */
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> FILE_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void closeFile() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            // запись партий уже завершена, ошибка закрытия не влияет на сохраненные данные
+        }
+        file = null;
+    }
+
+    private static long sequenceOf(Path path) {
+        var matcher = FILE_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+}
@@ -7,10 +7,13 @@ import lombok.val;
 import org.example.trianglecalculator.domain.TriangleAngleType;
 import org.example.trianglecalculator.domain.TriangleSideType;
 import org.example.trianglecalculator.dto.*;
+import org.example.trianglecalculator.event.TriangleComputeStageEvent;
+import org.example.trianglecalculator.event.TriangleRequestEvent;
 import org.example.trianglecalculator.exception.TriangleValidateException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +23,7 @@ public class TriangleComputeService {
     private static final int RIGHT_ANGLE_DEGREES = 90;
 
     TriangleValidationService triangleValidationService;
+    TriangleSimilarityCache triangleSimilarityCache;
 
     /**
      * Получение параметров треугольника
@@ -28,36 +32,115 @@ public class TriangleComputeService {
      * @throws TriangleValidateException если нельзя построить треугольник по заданным параметрам
      */
     public TriangleDataResponse getTriangleInfo(TriangleDataRequest request) {
+        var event = new TriangleRequestEvent();
+        event.begin();
+        try {
+            val triangleInfo = validateAndComputeTriangleInfo(request, event);
+            event.validationOutcome = TriangleRequestEvent.VALID;
+            event.rightTriangleInfo = triangleInfo.getRightTriangleInfo() != null;
+            return triangleInfo;
+        } catch (TriangleValidateException e) {
+            event.validationOutcome = TriangleRequestEvent.INVALID;
+            if (event.shouldCommit()) {
+                event.validationErrors = String.join("; ", e.getErrors());
+            }
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Получение параметров треугольника без кэша подобия и без события запроса.
+     * Для массовых расчетов, где треугольники почти не повторяются: обращение к кэшу только
+     * вытесняло бы из него результаты запросов к /info
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов
+     * @return {@link TriangleDataResponse}
+     * @throws TriangleValidateException если нельзя построить треугольник по заданным параметрам
+     */
+    public TriangleDataResponse getTriangleInfoUncached(TriangleDataRequest request) {
+        triangleValidationService.validateTriangleDataRequest(request);
+        return computeTriangleInfo(request, defineTriangleSideType(request), determineTriangleAngleType(request));
+    }
+
+    /**
+     * Валидация и расчет параметров треугольника
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов
+     * @param event {@link TriangleRequestEvent} событие запроса, в которое записываются типы треугольника
+     *              и признак попадания в кэш подобия
+     * @return {@link TriangleDataResponse}
+     */
+    private TriangleDataResponse validateAndComputeTriangleInfo(TriangleDataRequest request,
+                                                                TriangleRequestEvent event) {
         triangleValidationService.validateTriangleDataRequest(request);
 
         val triangleAngleType = determineTriangleAngleType(request);
         val triangleSideType = defineTriangleSideType(request);
+        event.angleType = triangleAngleType.name();
+        event.sideType = triangleSideType.name();
+
+        event.similarityCacheHit = true;
+        return triangleSimilarityCache.computeIfAbsent(request, triangleSideType, () -> {
+            event.similarityCacheHit = false;
+            return computeTriangleInfo(request, triangleSideType, triangleAngleType);
+        });
+    }
 
-        if (triangleSideType == TriangleSideType.EQUILATERAL
-                && !triangleValidationService.isTriangleEquilateral(request)) {
-            throw new TriangleValidateException(
-                    List.of("углы в равностороннем треугольнике должны быть равны друг другу")
-            );
-        }
+    /**
+     * Расчет параметров треугольника, прошедшего валидацию.
+     * Каждый этап расчета отмечается событием {@link TriangleComputeStageEvent}.
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов
+     * @param triangleSideType {@link TriangleSideType} тип треугольника по сторонам
+     * @param triangleAngleType {@link TriangleAngleType} тип треугольника по углам
+     * @return {@link TriangleDataResponse}
+     */
+    private TriangleDataResponse computeTriangleInfo(TriangleDataRequest request,
+                                                     TriangleSideType triangleSideType,
+                                                     TriangleAngleType triangleAngleType) {
         var triangleInfo = TriangleDataResponse.builder()
-                .area(computeArea(request))
-                .perimeter(computePerimeter(request))
+                .area(traceStage("area", () -> computeArea(request)))
+                .perimeter(traceStage("perimeter", () -> computePerimeter(request)))
                 .sideType(triangleSideType)
                 .angleType(triangleAngleType);
 
         if (triangleAngleType == TriangleAngleType.RIGHT) {
-            triangleInfo.rightTriangleInfo(computeRightTypeTriangleInfo(request));
+            triangleInfo.rightTriangleInfo(traceStage("rightTriangleInfo", () -> computeRightTypeTriangleInfo(request)));
         }
 
-        triangleInfo.medians(computeTriangleMedians(request))
-                .bisectors(computeTriangleBisectors(request))
-                .heights(computeTriangleHeights(request))
-                .inscribedCircle(computeInscribedCircleOfTriangleArea(request))
-                .circumscribedCircle(computeCircumscribedCircleOfTriangleArea(request));
+        triangleInfo.medians(traceStage("medians", () -> computeTriangleMedians(request)))
+                .bisectors(traceStage("bisectors", () -> computeTriangleBisectors(request)))
+                .heights(traceStage("heights", () -> computeTriangleHeights(request)))
+                .inscribedCircle(traceStage("inscribedCircle", () -> computeInscribedCircleOfTriangleArea(request)))
+                .circumscribedCircle(traceStage("circumscribedCircle",
+                        () -> computeCircumscribedCircleOfTriangleArea(request)));
 
         return triangleInfo.build();
     }
 
+    /**
+     * Выполнение этапа расчета с записью события {@link TriangleComputeStageEvent}
+     * @param stage название этапа, совпадает с полем {@link TriangleDataResponse}
+     * @param compute расчет этапа
+     * @return результат расчета
+     */
+    private double traceStage(String stage, DoubleSupplier compute) {
+        var event = new TriangleComputeStageEvent();
+        event.begin();
+        val result = compute.getAsDouble();
+        event.stage = stage;
+        event.commit();
+        return result;
+    }
+
+    private <T> T traceStage(String stage, Supplier<T> compute) {
+        var event = new TriangleComputeStageEvent();
+        event.begin();
+        val result = compute.get();
+        event.stage = stage;
+        event.commit();
+        return result;
+    }
+
     /**
      * Вычисление площади треугольника.
      *
@@ -70,8 +153,17 @@ public class TriangleComputeService {
      * </pre>
      * где s - площадь треугольника, a, b и c - длины сторон, p - полупериметр треугольника.
      */
-    private double computeArea(TriangleDataRequest triangle) {
-        double s = computeHalfPerimeter(triangle);
+    double computeArea(TriangleDataRequest triangle) {
+        return computeArea(triangle, computeHalfPerimeter(triangle));
+    }
+
+    /**
+     * Вычисление площади треугольника по известному полупериметру
+     * @param triangle {@link TriangleDataRequest} значения длин сторон
+     * @param s полупериметр треугольника
+     * @return площадь треугольника
+     */
+    double computeArea(TriangleDataRequest triangle, double s) {
         return Math.sqrt(s * (s - triangle.getSideAB()) * (s - triangle.getSideBC()) * (s - triangle.getSideAC()));
     }
 
@@ -87,7 +179,7 @@ public class TriangleComputeService {
      * </pre>
      * где P - периметр треугольника, a, b и c - длины сторон.
      */
-    private double computePerimeter(TriangleDataRequest triangle) {
+    double computePerimeter(TriangleDataRequest triangle) {
         return triangle.getSideAB() + triangle.getSideBC() + triangle.getSideAC();
     }
 
@@ -103,7 +195,7 @@ public class TriangleComputeService {
      * </pre>
      * где P/2 - половина периметра треугольника, a, b и c - длины сторон.
      */
-    private double computeHalfPerimeter(TriangleDataRequest triangle) {
+    double computeHalfPerimeter(TriangleDataRequest triangle) {
         return computePerimeter(triangle) / 2.0;
     }
 
@@ -112,7 +204,7 @@ public class TriangleComputeService {
      * @param triangle {@link TriangleDataRequest} значения длин сторон
      * @return {@link TriangleSideType} тип треугольника
      */
-    private TriangleSideType defineTriangleSideType(TriangleDataRequest triangle) {
+    TriangleSideType defineTriangleSideType(TriangleDataRequest triangle) {
         if (triangle.getSideAB() != triangle.getSideBC()
                 && triangle.getSideBC() != triangle.getSideAC()
                 && triangle.getSideAB() != triangle.getSideAC()) {
@@ -131,7 +223,7 @@ public class TriangleComputeService {
      * @param triangle {@link TriangleDataRequest} со значениями углов треугольника в градусах
      * @return {@link TriangleAngleType} тип треугольника
      */
-    private TriangleAngleType determineTriangleAngleType(TriangleDataRequest triangle) {
+    TriangleAngleType determineTriangleAngleType(TriangleDataRequest triangle) {
         if (triangle.getAngleA() == RIGHT_ANGLE_DEGREES || triangle.getAngleB() == RIGHT_ANGLE_DEGREES
                 || triangle.getAngleC() == RIGHT_ANGLE_DEGREES) {
             return TriangleAngleType.RIGHT;
@@ -170,7 +262,7 @@ public class TriangleComputeService {
      * </pre>
      * где m - длина медианы треугольника, a и b - смежные стороны, c - противоположная сторона.
      */
-    private double computeMedian(double side1, double side2, double oppositeSide) {
+    double computeMedian(double side1, double side2, double oppositeSide) {
         return Math.sqrt((2 * Math.pow(side1, 2) + 2 * Math.pow(side2, 2) - Math.pow(oppositeSide, 2)) / 4);
     }
 
@@ -201,7 +293,7 @@ public class TriangleComputeService {
      * </pre>
      * где b - длина биссектрисы треугольника, a и c - смежные стороны, θ - угол.
      */
-    private double computeTriangleBisector(double angle, double side1, double side2) {
+    double computeTriangleBisector(double angle, double side1, double side2) {
         return (2 * side1 * side2 * Math.cos(Math.toRadians(angle / 2))) / (side1 + side2);
     }
 
@@ -232,7 +324,7 @@ public class TriangleComputeService {
      * </pre>
      * где h - длина высоты треугольника, A - площадь треугольника, c - длина противоположной стороны.
      */
-    private double computeTriangleHeight(double area, double oppositeSide) {
+    double computeTriangleHeight(double area, double oppositeSide) {
         return (2 * area) / oppositeSide;
     }
 
@@ -249,9 +341,18 @@ public class TriangleComputeService {
      * где A - площадь вписанной в треугольник окружности, r - радиус этой окружности.
      * Радиус окружности, вписанной в треугольник, вычисляется как отношение площади треугольника к его полупериметру.
      */
-    private double computeInscribedCircleOfTriangleArea(TriangleDataRequest triangle) {
+    double computeInscribedCircleOfTriangleArea(TriangleDataRequest triangle) {
         val halfPerimeter = computeHalfPerimeter(triangle);
-        val area = computeArea(triangle);
+        return computeInscribedCircleOfTriangleArea(computeArea(triangle, halfPerimeter), halfPerimeter);
+    }
+
+    /**
+     * Вычисление площади вписанной окружности по известным площади и полупериметру треугольника
+     * @param area площадь треугольника
+     * @param halfPerimeter полупериметр треугольника
+     * @return числовое значение площади вписанной в треугольник окружности
+     */
+    double computeInscribedCircleOfTriangleArea(double area, double halfPerimeter) {
         val radius = area / halfPerimeter;
 
         return Math.PI * Math.pow(radius, 2);
@@ -270,7 +371,7 @@ public class TriangleComputeService {
      * где A - площадь описанной вокруг треугольника окружности, R - радиус этой окружности.
      * Радиус окружности, описанной вокруг треугольника, вычисляется как отношение длины любой из сторон треугольника к удвоенной синусе соответствующего угла.
      */
-    private double computeCircumscribedCircleOfTriangleArea(TriangleDataRequest triangle) {
+    double computeCircumscribedCircleOfTriangleArea(TriangleDataRequest triangle) {
         val radius = triangle.getSideAB() / (2 * Math.sin(Math.toRadians(triangle.getAngleA())));
 
         return Math.PI * Math.pow(radius, 2);
@@ -281,15 +382,11 @@ public class TriangleComputeService {
      * @param triangle {@link TriangleDataRequest} значения длин сторон и углов треугольника
      * @return {@link RightTypeTriangleData} информация о синусе, косинусе, тангенсе, длинах катетов и гипотенузы
      */
-    private RightTypeTriangleData computeRightTypeTriangleInfo(TriangleDataRequest triangle) {
+    RightTypeTriangleData computeRightTypeTriangleInfo(TriangleDataRequest triangle) {
 
         var rightTypeTriangleData = new RightTypeTriangleData();
         setLegsAndHypotenuse(triangle, rightTypeTriangleData);
 
-        if (!triangleValidationService.isTriangleRightByPythagoreanTheorem(rightTypeTriangleData)) {
-            throw new TriangleValidateException(List.of("Сумма квадратов катетов не равна квадрату гипотенузы"));
-        }
-
         rightTypeTriangleData.setSinDegrees(computeSinDegrees(rightTypeTriangleData));
         rightTypeTriangleData.setSinRadians(computeSinDegrees(rightTypeTriangleData));
 
@@ -0,0 +1,71 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+
+/**
+ * Построение {@link TriangleDataRequest} по геометрическим данным, которые не содержат углов:
+ * по длинам сторон или по координатам вершин.
+ */
+final class TriangleGeometry {
+
+    private static final int STRAIGHT_ANGLE_DEGREES = 180;
+    private static final int MAX_ULP_CORRECTION = 4;
+
+    private TriangleGeometry() {
+    }
+
+    /**
+     * Треугольник по координатам вершин A, B и C
+     *
+     * @return {@link TriangleDataRequest} длины сторон и углы, сумма углов равна 180 точно
+     */
+    static TriangleDataRequest fromVertices(double ax, double ay, double bx, double by, double cx, double cy) {
+        double ab = squaredDistance(ax, ay, bx, by);
+        double bc = squaredDistance(bx, by, cx, cy);
+        double ac = squaredDistance(ax, ay, cx, cy);
+        double angleA = angle(ab, ac, bc);
+        double angleB = angle(ab, bc, ac);
+        return new TriangleDataRequest(Math.sqrt(ab), Math.sqrt(bc), Math.sqrt(ac),
+                angleA, angleB, closingAngle(angleA, angleB));
+    }
+
+    /**
+     * Угол треугольника по квадратам длин сторон
+     *
+     * @param side1Squared    квадрат длины первой прилежащей стороны
+     * @param side2Squared    квадрат длины второй прилежащей стороны
+     * @param oppositeSquared квадрат длины противолежащей стороны
+     * @return угол в градусах
+     *
+     * @implNote Угол вычисляется по теореме косинусов:
+     * <pre>
+     *     cos(θ) = (a^2 + b^2 - c^2) / (2 * a * b)
+     * </pre>
+     * Квадраты длин передаются без извлечения корня, чтобы для вершин с целыми координатами
+     * прямой угол получался равным 90 точно.
+     */
+    static double angle(double side1Squared, double side2Squared, double oppositeSquared) {
+        double cos = (side1Squared + side2Squared - oppositeSquared) / (2 * Math.sqrt(side1Squared * side2Squared));
+        return Math.toDegrees(Math.acos(Math.max(-1, Math.min(1, cos))));
+    }
+
+    /**
+     * Третий угол треугольника по двум известным
+     *
+     * @return угол {@code 180 - a - b}, исправленный на несколько единиц последнего разряда так,
+     * чтобы сумма {@code a + b + c} в арифметике с плавающей точкой была равна 180 точно
+     */
+    static double closingAngle(double a, double b) {
+        double c = STRAIGHT_ANGLE_DEGREES - a - b;
+        for (int ulp = 0; ulp < MAX_ULP_CORRECTION && a + b + c != STRAIGHT_ANGLE_DEGREES; ulp++) {
+            c = a + b + c > STRAIGHT_ANGLE_DEGREES ? Math.nextDown(c) : Math.nextUp(c);
+        }
+        return c;
+    }
+
+    private static double squaredDistance(double x1, double y1, double x2, double y2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.example.trianglecalculator.domain.TriangleJobStatus;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleJobData;
+import org.example.trianglecalculator.dto.TriangleJobResultData;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Состояние задачи пакетного расчета: исходный набор, разбитый на части, счетчики прогресса и готовые части результата.
+ * Части результата хранятся в памяти либо, при превышении бюджета памяти, в файлах.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class TriangleJob {
+
+    @Getter
+    String id;
+    @Getter
+    TriangleDataRequest[] requests;
+    int chunkSize;
+    @Getter
+    int chunkCount;
+
+    AtomicInteger nextChunk = new AtomicInteger();
+    AtomicInteger processed = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    AtomicInteger completedChunks = new AtomicInteger();
+
+    @Getter
+    Map<Integer, List<TriangleJobResultData>> memoryChunks = new ConcurrentHashMap<>();
+    @Getter
+    Map<Integer, Path> spilledChunks = new ConcurrentHashMap<>();
+
+    @NonFinal
+    volatile boolean cancelled;
+    @NonFinal
+    volatile String error;
+    @NonFinal
+    volatile boolean finished;
+    @NonFinal
+    volatile long finishedAtNanos;
+
+    TriangleJob(String id, List<TriangleDataRequest> requests, int chunkSize) {
+        this.id = id;
+        this.requests = requests.toArray(new TriangleDataRequest[0]);
+        this.chunkSize = chunkSize;
+        this.chunkCount = (requests.size() + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Выдача следующей необработанной части
+     *
+     * @return номер части или -1, если все части выданы или задача отменена
+     */
+    int nextChunkIndex() {
+        while (true) {
+            int chunk = nextChunk.get();
+            if (cancelled || chunk >= chunkCount) {
+                return -1;
+            }
+            if (nextChunk.compareAndSet(chunk, chunk + 1)) {
+                return chunk;
+            }
+        }
+    }
+
+    boolean hasUndispatchedChunks() {
+        return !cancelled && nextChunk.get() < chunkCount;
+    }
+
+    /**
+     * Отмена задачи
+     *
+     * @return количество треугольников в частях, которые так и не были выданы в обработку
+     */
+    int cancel() {
+        cancelled = true;
+        int firstUndispatched = Math.min(nextChunk.getAndSet(chunkCount), chunkCount);
+        return firstUndispatched == chunkCount ? 0 : requests.length - chunkStart(firstUndispatched);
+    }
+
+    /**
+     * Завершение задачи с ошибкой: невыданные части снимаются с очереди, как при отмене
+     *
+     * @param error описание ошибки для клиента
+     * @return количество треугольников в частях, которые так и не были выданы в обработку
+     */
+    int fail(String error) {
+        this.error = error;
+        int undispatched = cancel();
+        markFinished();
+        return undispatched;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Задача завершена (обработана или завершилась с ошибкой) дольше {@code ttlNanos} назад
+     */
+    boolean isExpired(long now, long ttlNanos) {
+        return finished && now - finishedAtNanos > ttlNanos;
+    }
+
+    int chunkStart(int chunk) {
+        return chunk * chunkSize;
+    }
+
+    int chunkEnd(int chunk) {
+        return Math.min(requests.length, chunkStart(chunk) + chunkSize);
+    }
+
+    void itemProcessed(boolean valid) {
+        processed.incrementAndGet();
+        if (!valid) {
+            failed.incrementAndGet();
+        }
+    }
+
+    void chunkCompleted() {
+        if (completedChunks.incrementAndGet() == chunkCount) {
+            markFinished();
+        }
+    }
+
+    private void markFinished() {
+        finishedAtNanos = System.nanoTime();
+        finished = true;
+    }
+
+    boolean isChunkReady(int chunk) {
+        return memoryChunks.containsKey(chunk) || spilledChunks.containsKey(chunk);
+    }
+
+    TriangleJobStatus getStatus() {
+        if (error != null) {
+            return TriangleJobStatus.FAILED;
+        } else if (completedChunks.get() == chunkCount) {
+            return TriangleJobStatus.COMPLETED;
+        } else if (cancelled) {
+            return TriangleJobStatus.CANCELLED;
+        } else if (nextChunk.get() > 0) {
+            return TriangleJobStatus.RUNNING;
+        }
+        return TriangleJobStatus.QUEUED;
+    }
+
+    TriangleJobData toJobData() {
+        return new TriangleJobData(id, getStatus(), requests.length, processed.get(), failed.get(),
+                chunkCount, completedChunks.get(), error);
+    }
+}
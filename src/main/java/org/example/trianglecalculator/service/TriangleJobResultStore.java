@@ -0,0 +1,129 @@
+package org.example.trianglecalculator.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleJobResultData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Хранилище готовых частей результата задач пакетного расчета.
+ * Пока суммарное количество результатов в памяти не превышает бюджет, части хранятся в памяти,
+ * остальные записываются в файлы в подкаталогах задач в каталоге {@code triangle.jobs.spill-dir}.
+ * Удаляются только эти подкаталоги: сам каталог может быть общим, например {@code /tmp}.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleJobResultStore {
+
+    private static final TypeReference<List<TriangleJobResultData>> RESULTS_TYPE = new TypeReference<>() {
+    };
+
+    ObjectMapper objectMapper;
+    long memoryBudget;
+    Path spillDirectory;
+    AtomicLong resultsInMemory = new AtomicLong();
+    Set<Path> jobDirectories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param objectMapper   сериализация частей результата в файлы
+     * @param memoryBudget   максимальное количество результатов, хранимых в памяти по всем задачам
+     * @param spillDirectory каталог для частей результата, не поместившихся в память
+     */
+    public TriangleJobResultStore(ObjectMapper objectMapper,
+                                  @Value("${triangle.jobs.memory-budget:1000000}") long memoryBudget,
+                                  @Value("${triangle.jobs.spill-dir:${java.io.tmpdir}/triangle-jobs}") Path spillDirectory) {
+        this.objectMapper = objectMapper;
+        this.memoryBudget = memoryBudget;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Сохранение готовой части результата. Результаты отмененной задачи не сохраняются.
+     *
+     * @param job     {@link TriangleJob} задача
+     * @param chunk   номер части
+     * @param results результаты расчета части
+     */
+    @SneakyThrows
+    void store(TriangleJob job, int chunk, List<TriangleJobResultData> results) {
+        synchronized (job) {
+            if (job.isCancelled()) {
+                return;
+            }
+            if (resultsInMemory.addAndGet(results.size()) <= memoryBudget) {
+                job.getMemoryChunks().put(chunk, results);
+            } else {
+                resultsInMemory.addAndGet(-results.size());
+                Path jobDirectory = spillDirectory.resolve(job.getId());
+                Files.createDirectories(jobDirectory);
+                jobDirectories.add(jobDirectory);
+                Path file = jobDirectory.resolve("chunk-" + chunk + ".json");
+                objectMapper.writeValue(file.toFile(), results);
+                job.getSpilledChunks().put(chunk, file);
+            }
+            job.chunkCompleted();
+        }
+    }
+
+    /**
+     * Чтение готовой части результата
+     *
+     * @param job   {@link TriangleJob} задача
+     * @param chunk номер части
+     * @return результаты расчета части или {@code null}, если часть еще не готова
+     */
+    @SneakyThrows
+    List<TriangleJobResultData> load(TriangleJob job, int chunk) {
+        var results = job.getMemoryChunks().get(chunk);
+        if (results != null) {
+            return results;
+        }
+        var file = job.getSpilledChunks().get(chunk);
+        return file == null ? null : objectMapper.readValue(file.toFile(), RESULTS_TYPE);
+    }
+
+    /**
+     * Освобождение памяти и файлов задачи. Вызывается после отмены задачи, ошибки и истечения срока хранения результатов.
+     *
+     * @param job {@link TriangleJob} задача
+     */
+    void release(TriangleJob job) {
+        synchronized (job) {
+            job.getMemoryChunks().values().forEach(results -> resultsInMemory.addAndGet(-results.size()));
+            job.getMemoryChunks().clear();
+            job.getSpilledChunks().clear();
+            Path jobDirectory = spillDirectory.resolve(job.getId());
+            if (jobDirectories.remove(jobDirectory)) {
+                FileSystemUtils.deleteRecursively(jobDirectory.toFile());
+            }
+        }
+    }
+
+    long getResultsInMemory() {
+        return resultsInMemory.get();
+    }
+
+    /**
+     * Удаление подкаталогов задач, созданных хранилищем, при остановке приложения
+     */
+    @PreDestroy
+    void deleteJobDirectories() {
+        for (Path jobDirectory : jobDirectories) {
+            FileSystemUtils.deleteRecursively(jobDirectory.toFile());
+        }
+        jobDirectories.clear();
+    }
+}
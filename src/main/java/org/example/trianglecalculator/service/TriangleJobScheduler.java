@@ -0,0 +1,195 @@
+package org.example.trianglecalculator.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleJobResultData;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Планировщик задач пакетного расчета.
+ * <p>
+ * Задачи обрабатываются частями в {@link ForkJoinPool}: часть рекурсивно делится на подзадачи,
+ * которые простаивающие потоки забирают у занятых. Одновременно выполняется не больше частей, чем потоков в пуле,
+ * а следующая часть берется у задач по очереди, поэтому параллельные задачи делят ядра поровну.
+ * Суммарное количество ожидающих обработки треугольников ограничено, новые задачи сверх лимита отклоняются.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleJobScheduler {
+
+    private static final int SPLIT_THRESHOLD = 64;
+
+    TriangleComputeService triangleComputeService;
+    TriangleJobResultStore triangleJobResultStore;
+    long maxQueuedRequests;
+    ForkJoinPool pool;
+    Semaphore chunkPermits;
+    Queue<TriangleJob> activeJobs = new ConcurrentLinkedQueue<>();
+    AtomicLong queuedRequests = new AtomicLong();
+
+    /**
+     * @param maxQueuedRequests максимальное количество треугольников во всех незавершенных задачах
+     * @param parallelism       количество потоков обработки, по умолчанию равно количеству ядер
+     */
+    public TriangleJobScheduler(TriangleComputeService triangleComputeService,
+                                TriangleJobResultStore triangleJobResultStore,
+                                @Value("${triangle.jobs.max-queued-requests:5000000}") long maxQueuedRequests,
+                                @Value("${triangle.jobs.parallelism:0}") int parallelism) {
+        this.triangleComputeService = triangleComputeService;
+        this.triangleJobResultStore = triangleJobResultStore;
+        this.maxQueuedRequests = maxQueuedRequests;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.chunkPermits = new Semaphore(threads);
+    }
+
+    /**
+     * Постановка задачи в очередь
+     *
+     * @param job {@link TriangleJob} задача
+     * @throws TriangleStatusException если превышен лимит ожидающих обработки треугольников
+     */
+    void submit(TriangleJob job) {
+        int size = job.getRequests().length;
+        if (queuedRequests.addAndGet(size) > maxQueuedRequests) {
+            queuedRequests.addAndGet(-size);
+            throw new TriangleStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Превышен лимит треугольников в очереди обработки, повторите запрос позже");
+        }
+        activeJobs.add(job);
+        dispatch();
+    }
+
+    /**
+     * Отмена задачи: невыданные части снимаются с очереди, выполняющиеся части прерываются
+     * перед следующим треугольником
+     *
+     * @param job {@link TriangleJob} задача
+     */
+    void cancel(TriangleJob job) {
+        queuedRequests.addAndGet(-job.cancel());
+        activeJobs.remove(job);
+    }
+
+    long getQueuedRequests() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * Выдача частей в обработку, пока есть свободные потоки.
+     * Задача, у которой остались невыданные части, возвращается в конец очереди.
+     */
+    private void dispatch() {
+        while (!activeJobs.isEmpty() && chunkPermits.tryAcquire()) {
+            var job = activeJobs.poll();
+            int chunk = job == null ? -1 : job.nextChunkIndex();
+            if (chunk < 0) {
+                chunkPermits.release();
+                continue;
+            }
+            if (job.hasUndispatchedChunks()) {
+                activeJobs.add(job);
+            }
+            pool.execute(() -> processChunk(job, chunk));
+        }
+    }
+
+    private void processChunk(TriangleJob job, int chunk) {
+        int from = job.chunkStart(chunk);
+        int to = job.chunkEnd(chunk);
+        try {
+            var results = new TriangleJobResultData[to - from];
+            new ChunkTask(job, results, from, from, to).invoke();
+
+            if (!job.isCancelled()) {
+                triangleJobResultStore.store(job, chunk, Arrays.asList(results));
+            }
+        } catch (Exception e) {
+            failJob(job, "Ошибка сохранения части результата " + chunk + ": " + e.getMessage());
+        } finally {
+            queuedRequests.addAndGet(-(to - from));
+            chunkPermits.release();
+            dispatch();
+        }
+    }
+
+    /**
+     * Завершение задачи с ошибкой: невыданные части снимаются с очереди, сохраненные части удаляются
+     */
+    private void failJob(TriangleJob job, String error) {
+        queuedRequests.addAndGet(-job.fail(error));
+        activeJobs.remove(job);
+        triangleJobResultStore.release(job);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Расчет диапазона треугольников части с делением пополам, пока диапазон больше {@value SPLIT_THRESHOLD}
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private class ChunkTask extends RecursiveAction {
+
+        TriangleJob job;
+        TriangleJobResultData[] results;
+        int chunkStart;
+        int from;
+        int to;
+
+        ChunkTask(TriangleJob job, TriangleJobResultData[] results, int chunkStart, int from, int to) {
+            this.job = job;
+            this.results = results;
+            this.chunkStart = chunkStart;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(job, results, chunkStart, from, middle),
+                        new ChunkTask(job, results, chunkStart, middle, to));
+                return;
+            }
+            var requests = job.getRequests();
+            for (int i = from; i < to && !job.isCancelled(); i++) {
+                results[i - chunkStart] = computeResult(i, requests[i]);
+                requests[i] = null;
+            }
+        }
+
+        private TriangleJobResultData computeResult(int index, TriangleDataRequest request) {
+            try {
+                var result = new TriangleJobResultData(index,
+                        triangleComputeService.getTriangleInfoUncached(request), null);
+                job.itemProcessed(true);
+                return result;
+            } catch (TriangleValidateException e) {
+                job.itemProcessed(false);
+                return new TriangleJobResultData(index, null, e.getErrors());
+            } catch (RuntimeException e) {
+                job.itemProcessed(false);
+                return new TriangleJobResultData(index, null, List.of("Ошибка расчета: " + e.getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleJobData;
+import org.example.trianglecalculator.dto.TriangleJobResultData;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Задачи пакетного расчета.
+ * Завершенные задачи вместе с результатами удаляются по запросу клиента или фоновой очисткой,
+ * если с момента завершения прошло больше {@code resultTtl}.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleJobService {
+
+    TriangleJobScheduler triangleJobScheduler;
+    TriangleJobResultStore triangleJobResultStore;
+    int chunkSize;
+    long resultTtlNanos;
+    Map<String, TriangleJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @param chunkSize        количество треугольников в одной части задачи и в одной части результата
+     * @param resultTtlSeconds время в секундах после завершения задачи, через которое задача и ее результаты удаляются
+     */
+    public TriangleJobService(TriangleJobScheduler triangleJobScheduler,
+                              TriangleJobResultStore triangleJobResultStore,
+                              @Value("${triangle.jobs.chunk-size:1000}") int chunkSize,
+                              @Value("${triangle.jobs.result-ttl-seconds:3600}") long resultTtlSeconds) {
+        this.triangleJobScheduler = triangleJobScheduler;
+        this.triangleJobResultStore = triangleJobResultStore;
+        this.chunkSize = chunkSize;
+        this.resultTtlNanos = TimeUnit.SECONDS.toNanos(resultTtlSeconds);
+    }
+
+    /**
+     * Создание задачи пакетного расчета
+     *
+     * @param requests список {@link TriangleDataRequest} значений длин сторон и углов треугольников
+     * @return {@link TriangleJobData} идентификатор и состояние задачи
+     * @throws TriangleStatusException если превышен лимит треугольников в очереди обработки
+     */
+    public TriangleJobData submit(List<TriangleDataRequest> requests) {
+        var job = new TriangleJob(UUID.randomUUID().toString(), requests, chunkSize);
+        jobs.put(job.getId(), job);
+        try {
+            triangleJobScheduler.submit(job);
+        } catch (TriangleStatusException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job.toJobData();
+    }
+
+    /**
+     * Получение состояния задачи
+     *
+     * @param id идентификатор задачи
+     * @return {@link TriangleJobData} прогресс обработки
+     */
+    public TriangleJobData getJob(String id) {
+        return findJob(id).toJobData();
+    }
+
+    /**
+     * Получение части результата
+     *
+     * @param id    идентификатор задачи
+     * @param chunk номер части, от 0 до {@code chunkCount - 1}
+     * @return список {@link TriangleJobResultData} в порядке исходного набора
+     * @throws TriangleStatusException если часть не существует или еще не готова
+     */
+    public List<TriangleJobResultData> getResults(String id, int chunk) {
+        var job = findJob(id);
+        if (chunk < 0 || chunk >= job.getChunkCount()) {
+            throw new TriangleStatusException(HttpStatus.NOT_FOUND,
+                    "Номер части результата должен быть от 0 до " + (job.getChunkCount() - 1));
+        }
+        var results = triangleJobResultStore.load(job, chunk);
+        if (results == null) {
+            throw new TriangleStatusException(HttpStatus.CONFLICT, "Часть результата " + chunk + " еще не готова");
+        }
+        return results;
+    }
+
+    /**
+     * Отмена задачи и удаление ее результатов
+     *
+     * @param id идентификатор задачи
+     * @return {@link TriangleJobData} состояние задачи на момент отмены
+     */
+    public TriangleJobData cancel(String id) {
+        var job = jobs.remove(id);
+        if (job == null) {
+            throw jobNotFound(id);
+        }
+        triangleJobScheduler.cancel(job);
+        triangleJobResultStore.release(job);
+        return job.toJobData();
+    }
+
+    /**
+     * Удаление задач, завершенных дольше {@code resultTtl} назад, вместе с результатами
+     */
+    @Scheduled(fixedDelayString = "${triangle.jobs.eviction-interval-ms:60000}")
+    void evictExpiredJobs() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> {
+            if (!job.isExpired(now, resultTtlNanos)) {
+                return false;
+            }
+            triangleJobResultStore.release(job);
+            return true;
+        });
+    }
+
+    private TriangleJob findJob(String id) {
+        var job = jobs.get(id);
+        if (job == null) {
+            throw jobNotFound(id);
+        }
+        return job;
+    }
+
+    private TriangleStatusException jobNotFound(String id) {
+        return new TriangleStatusException(HttpStatus.NOT_FOUND, "Задача " + id + " не найдена");
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TrianglePolygonData;
+import org.example.trianglecalculator.dto.TrianglePolygonRequest;
+import org.example.trianglecalculator.dto.TrianglePolygonTriangleData;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Триангуляция многоугольника и расчет параметров каждого треугольника.
+ * <p>
+ * Многоугольник разбивается на треугольники {@link PolygonTriangulator}, после чего треугольники
+ * рассчитываются в потоке запроса через {@link TriangleComputeService#getTriangleInfoUncached}: треугольники
+ * триангуляции почти не бывают подобны, и кэш подобия только вытеснял бы результаты /info.
+ * Расчет не распараллеливается: он дешевле триангуляции, а общий пул параллельных потоков занимать не нужно.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TrianglePolygonService {
+
+    private static final double EQUILATERAL_ASPECT_RATIO = 2 / Math.sqrt(3);
+
+    TriangleComputeService triangleComputeService;
+    int maxVertices;
+
+    /**
+     * @param maxVertices максимальное количество вершин многоугольника вместе с отверстиями
+     */
+    public TrianglePolygonService(TriangleComputeService triangleComputeService,
+                                  @Value("${triangle.polygon.max-vertices:1000000}") int maxVertices) {
+        this.triangleComputeService = triangleComputeService;
+        this.maxVertices = maxVertices;
+    }
+
+    /**
+     * Триангуляция многоугольника
+     *
+     * @param request {@link TrianglePolygonRequest} вершины внешнего контура и отверстий
+     * @return {@link TrianglePolygonData} итоги по многоугольнику и, если запрошено, параметры каждого треугольника
+     * @throws TriangleValidateException если вершины заданы неверно или их слишком много
+     */
+    public TrianglePolygonData triangulate(TrianglePolygonRequest request) {
+        List<List<double[]>> holes = request.holes() == null ? List.of() : request.holes();
+        int vertexCount = request.outline().size() + holes.stream().mapToInt(List::size).sum();
+        if (vertexCount > maxVertices) {
+            throw new TriangleValidateException(List.of(
+                    "Слишком много вершин многоугольника: " + vertexCount + ", допустимо не больше " + maxVertices));
+        }
+
+        var coordinates = new double[vertexCount * 2];
+        var holeStarts = new int[holes.size()];
+        List<String> errors = new ArrayList<>();
+        int vertex = copyRing("outline", request.outline(), coordinates, 0, errors);
+        for (int i = 0; i < holes.size(); i++) {
+            holeStarts[i] = vertex;
+            vertex = copyRing("holes[" + i + "]", holes.get(i), coordinates, vertex, errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new TriangleValidateException(errors);
+        }
+
+        double perimeter = ringLength(coordinates, 0, holes.isEmpty() ? vertexCount : holeStarts[0]);
+        for (int i = 0; i < holeStarts.length; i++) {
+            perimeter += ringLength(coordinates, holeStarts[i], i + 1 < holeStarts.length ? holeStarts[i + 1] : vertexCount);
+        }
+
+        int[] indices = PolygonTriangulator.triangulate(coordinates, holeStarts);
+        var triangles = new TrianglePolygonTriangleData[indices.length / 3];
+        for (int i = 0; i < triangles.length; i++) {
+            triangles[i] = computeTriangle(coordinates, indices, i);
+        }
+
+        return aggregate(coordinates, indices, triangles, perimeter, request.includeTriangles());
+    }
+
+    /**
+     * Итоги по многоугольнику.
+     * Площадь многоугольника складывается из площадей треугольников, вычисленных по координатам вершин:
+     * формула Герона для узких треугольников, которых при триангуляции бывает много, теряет точность.
+     */
+    private TrianglePolygonData aggregate(double[] coordinates, int[] indices, TrianglePolygonTriangleData[] triangles,
+                                          double perimeter, boolean includeTriangles) {
+        double area = 0;
+        for (int i = 0; i < indices.length; i += 3) {
+            area += triangleArea(coordinates, indices[i], indices[i + 1], indices[i + 2]);
+        }
+
+        int degenerate = 0;
+        TrianglePolygonTriangleData worst = null;
+        List<TrianglePolygonTriangleData> computed = includeTriangles ? new ArrayList<>(triangles.length) : null;
+        for (var triangle : triangles) {
+            if (triangle == null) {
+                degenerate++;
+                continue;
+            }
+            if (worst == null || triangle.aspectRatio() > worst.aspectRatio()) {
+                worst = triangle;
+            }
+            if (computed != null) {
+                computed.add(triangle);
+            }
+        }
+        return new TrianglePolygonData(triangles.length, degenerate, area, perimeter, worst, computed);
+    }
+
+    /**
+     * Расчет треугольника триангуляции
+     *
+     * @return {@link TrianglePolygonTriangleData} или {@code null}, если треугольник вырожденный
+     */
+    private TrianglePolygonTriangleData computeTriangle(double[] coordinates, int[] indices, int triangle) {
+        int a = indices[triangle * 3];
+        int b = indices[triangle * 3 + 1];
+        int c = indices[triangle * 3 + 2];
+        TriangleDataRequest request = TriangleGeometry.fromVertices(
+                coordinates[a * 2], coordinates[a * 2 + 1],
+                coordinates[b * 2], coordinates[b * 2 + 1],
+                coordinates[c * 2], coordinates[c * 2 + 1]);
+        try {
+            var result = triangleComputeService.getTriangleInfoUncached(request);
+            double longestSide = Math.max(request.getSideAB(), Math.max(request.getSideBC(), request.getSideAC()));
+            double shortestHeight = Math.min(result.getHeights().heightA(),
+                    Math.min(result.getHeights().heightB(), result.getHeights().heightC()));
+            return new TrianglePolygonTriangleData(new int[]{a, b, c}, request, result,
+                    longestSide / shortestHeight / EQUILATERAL_ASPECT_RATIO);
+        } catch (TriangleValidateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Копирование вершин контура в общий массив координат
+     *
+     * @return номер вершины, следующей за последней вершиной контура
+     */
+    private int copyRing(String name, List<double[]> ring, double[] coordinates, int vertex, List<String> errors) {
+        for (int i = 0; i < ring.size(); i++, vertex++) {
+            double[] point = ring.get(i);
+            if (point == null || point.length != 2 || !Double.isFinite(point[0]) || !Double.isFinite(point[1])) {
+                errors.add(name + "[" + i + "] вершина должна состоять из двух конечных координат [x, y]");
+                continue;
+            }
+            coordinates[vertex * 2] = point[0];
+            coordinates[vertex * 2 + 1] = point[1];
+        }
+        return vertex;
+    }
+
+    /**
+     * Площадь треугольника по координатам вершин как половина модуля векторного произведения сторон
+     */
+    private double triangleArea(double[] coordinates, int a, int b, int c) {
+        double abx = coordinates[b * 2] - coordinates[a * 2];
+        double aby = coordinates[b * 2 + 1] - coordinates[a * 2 + 1];
+        double acx = coordinates[c * 2] - coordinates[a * 2];
+        double acy = coordinates[c * 2 + 1] - coordinates[a * 2 + 1];
+        return Math.abs(abx * acy - acx * aby) / 2;
+    }
+
+    private double ringLength(double[] coordinates, int from, int to) {
+        double length = 0;
+        for (int i = from, j = to - 1; i < to; j = i++) {
+            double dx = coordinates[i * 2] - coordinates[j * 2];
+            double dy = coordinates[i * 2 + 1] - coordinates[j * 2 + 1];
+            length += Math.sqrt(dx * dx + dy * dy);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Состояние сессии пошагового редактирования: текущие значения сторон и углов
+ * и значения всех узлов {@link TriangleSessionNode}, вычисленные для них.
+ * Изменение состояния выполняется под монитором сессии.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class TriangleSession {
+
+    String id;
+    TriangleDataRequest triangle;
+    Map<TriangleSessionNode, Object> values = new EnumMap<>(TriangleSessionNode.class);
+
+    @NonFinal
+    volatile long lastAccessNanos;
+
+    TriangleSession(String id, TriangleDataRequest triangle) {
+        this.id = id;
+        this.triangle = triangle;
+        touch();
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    boolean isIdle(long now, long idleTimeoutNanos) {
+        return now - lastAccessNanos >= idleTimeoutNanos;
+    }
+}
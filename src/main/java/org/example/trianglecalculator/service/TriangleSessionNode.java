@@ -0,0 +1,159 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.domain.TriangleAngleType;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Граф зависимостей величин треугольника для сессий пошагового редактирования.
+ * <p>
+ * Первые шесть узлов - исходные значения сторон и углов, остальные - производные величины, которые вычисляются
+ * формулами {@link TriangleComputeService} из исходных значений и уже вычисленных узлов.
+ * Узлы объявлены в топологическом порядке: каждый узел объявлен после всех узлов, от которых зависит,
+ * поэтому для пересчета достаточно одного прохода по {@link #values()}.
+ * <p>
+ * Путь узла совпадает с полем {@link TriangleDataRequest} для исходных значений и с путем к полю
+ * {@link org.example.trianglecalculator.dto.TriangleDataResponse} для производных величин.
+ * Промежуточные величины, которых нет в ответе, пути не имеют.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+enum TriangleSessionNode {
+
+    SIDE_AB("sideAB", TriangleDataRequest::getSideAB, TriangleDataRequest::setSideAB),
+    SIDE_BC("sideBC", TriangleDataRequest::getSideBC, TriangleDataRequest::setSideBC),
+    SIDE_AC("sideAC", TriangleDataRequest::getSideAC, TriangleDataRequest::setSideAC),
+    ANGLE_A("angleA", TriangleDataRequest::getAngleA, TriangleDataRequest::setAngleA),
+    ANGLE_B("angleB", TriangleDataRequest::getAngleB, TriangleDataRequest::setAngleB),
+    ANGLE_C("angleC", TriangleDataRequest::getAngleC, TriangleDataRequest::setAngleC),
+
+    PERIMETER("perimeter", (service, triangle, values) -> service.computePerimeter(triangle),
+            SIDE_AB, SIDE_BC, SIDE_AC),
+    HALF_PERIMETER(null, (service, triangle, values) -> (double) values.get(PERIMETER) / 2.0,
+            PERIMETER),
+    AREA("area", (service, triangle, values) -> service.computeArea(triangle, (double) values.get(HALF_PERIMETER)),
+            HALF_PERIMETER, SIDE_AB, SIDE_BC, SIDE_AC),
+    SIDE_TYPE("sideType", (service, triangle, values) -> service.defineTriangleSideType(triangle),
+            SIDE_AB, SIDE_BC, SIDE_AC),
+    ANGLE_TYPE("angleType", (service, triangle, values) -> service.determineTriangleAngleType(triangle),
+            ANGLE_A, ANGLE_B, ANGLE_C),
+
+    MEDIAN_A("medians.medianA",
+            (service, t, values) -> service.computeMedian(t.getSideAB(), t.getSideAC(), t.getSideBC()),
+            SIDE_AB, SIDE_BC, SIDE_AC),
+    MEDIAN_B("medians.medianB",
+            (service, t, values) -> service.computeMedian(t.getSideAB(), t.getSideBC(), t.getSideAC()),
+            SIDE_AB, SIDE_BC, SIDE_AC),
+    MEDIAN_C("medians.medianC",
+            (service, t, values) -> service.computeMedian(t.getSideAC(), t.getSideBC(), t.getSideAB()),
+            SIDE_AB, SIDE_BC, SIDE_AC),
+
+    BISECTOR_A("bisectors.bisectorA",
+            (service, t, values) -> service.computeTriangleBisector(t.getAngleA(), t.getSideBC(), t.getSideAC()),
+            ANGLE_A, SIDE_BC, SIDE_AC),
+    BISECTOR_B("bisectors.bisectorB",
+            (service, t, values) -> service.computeTriangleBisector(t.getAngleB(), t.getSideAB(), t.getSideAC()),
+            ANGLE_B, SIDE_AB, SIDE_AC),
+    BISECTOR_C("bisectors.bisectorC",
+            (service, t, values) -> service.computeTriangleBisector(t.getAngleC(), t.getSideBC(), t.getSideAB()),
+            ANGLE_C, SIDE_BC, SIDE_AB),
+
+    HEIGHT_A("heights.heightA",
+            (service, t, values) -> service.computeTriangleHeight((double) values.get(AREA), t.getSideBC()),
+            AREA, SIDE_BC),
+    HEIGHT_B("heights.heightB",
+            (service, t, values) -> service.computeTriangleHeight((double) values.get(AREA), t.getSideAC()),
+            AREA, SIDE_AC),
+    HEIGHT_C("heights.heightC",
+            (service, t, values) -> service.computeTriangleHeight((double) values.get(AREA), t.getSideAB()),
+            AREA, SIDE_AB),
+
+    INSCRIBED_CIRCLE("inscribedCircle",
+            (service, t, values) -> service.computeInscribedCircleOfTriangleArea(
+                    (double) values.get(AREA), (double) values.get(HALF_PERIMETER)),
+            AREA, HALF_PERIMETER),
+    CIRCUMSCRIBED_CIRCLE("circumscribedCircle",
+            (service, t, values) -> service.computeCircumscribedCircleOfTriangleArea(t),
+            SIDE_AB, ANGLE_A),
+
+    RIGHT_TRIANGLE_INFO("rightTriangleInfo",
+            (service, t, values) -> values.get(ANGLE_TYPE) == TriangleAngleType.RIGHT
+                    ? service.computeRightTypeTriangleInfo(t)
+                    : null,
+            ANGLE_TYPE, SIDE_AB, SIDE_BC, SIDE_AC, ANGLE_A, ANGLE_B, ANGLE_C);
+
+    String path;
+    ToDoubleFunction<TriangleDataRequest> getter;
+    ObjDoubleConsumer<TriangleDataRequest> setter;
+    Formula formula;
+    TriangleSessionNode[] dependencies;
+
+    /**
+     * Исходное значение треугольника
+     */
+    TriangleSessionNode(String path,
+                        ToDoubleFunction<TriangleDataRequest> getter,
+                        ObjDoubleConsumer<TriangleDataRequest> setter) {
+        this.path = path;
+        this.getter = getter;
+        this.setter = setter;
+        this.formula = (service, triangle, values) -> getter.applyAsDouble(triangle);
+        this.dependencies = new TriangleSessionNode[0];
+    }
+
+    /**
+     * Производная величина
+     */
+    TriangleSessionNode(String path, Formula formula, TriangleSessionNode... dependencies) {
+        this.path = path;
+        this.getter = null;
+        this.setter = null;
+        this.formula = formula;
+        this.dependencies = dependencies;
+    }
+
+    boolean isInput() {
+        return setter != null;
+    }
+
+    boolean dependsOnAny(Set<TriangleSessionNode> nodes) {
+        for (var dependency : dependencies) {
+            if (nodes.contains(dependency)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Object compute(TriangleComputeService service, TriangleDataRequest triangle,
+                   Map<TriangleSessionNode, Object> values) {
+        return formula.compute(service, triangle, values);
+    }
+
+    /**
+     * Поиск исходного значения по названию поля {@link TriangleDataRequest}
+     *
+     * @return узел или {@code null}, если такого поля нет
+     */
+    static TriangleSessionNode findInput(String field) {
+        for (var node : values()) {
+            if (node.isInput() && node.path.equals(field)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    interface Formula {
+        Object compute(TriangleComputeService service, TriangleDataRequest triangle,
+                       Map<TriangleSessionNode, Object> values);
+    }
+}
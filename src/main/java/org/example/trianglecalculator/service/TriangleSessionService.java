@@ -0,0 +1,247 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.example.trianglecalculator.domain.TriangleAngleType;
+import org.example.trianglecalculator.domain.TriangleSideType;
+import org.example.trianglecalculator.dto.*;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.trianglecalculator.service.TriangleSessionNode.*;
+
+/**
+ * Сессии пошагового редактирования треугольника.
+ * <p>
+ * Клиент открывает сессию полным набором сторон и углов, а затем присылает только изменившиеся поля.
+ * После изменения пересчитываются только узлы {@link TriangleSessionNode}, зависящие от изменившихся значений,
+ * а в ответ попадают только параметры, значение которых действительно изменилось.
+ * <p>
+ * Сессии, к которым не обращались дольше {@code idleTimeout}, удаляются фоновой очисткой.
+ * Количество сессий ограничено: при открытии сессии сверх лимита удаляется сессия с самым давним обращением.
+ * Проверка лимита, освобождение места и добавление сессии выполняются под одной блокировкой, поэтому
+ * одновременные открытия не превышают лимит. Удаление сессий только уменьшает их количество и блокировки не требует.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleSessionService {
+
+    private static final Set<TriangleSessionNode> ALL_NODES = EnumSet.allOf(TriangleSessionNode.class);
+
+    TriangleComputeService triangleComputeService;
+    TriangleValidationService triangleValidationService;
+    long idleTimeoutNanos;
+    int maxSessions;
+    Map<String, TriangleSession> sessions = new ConcurrentHashMap<>();
+    Object admissionLock = new Object();
+
+    /**
+     * @param idleTimeoutSeconds время в секундах без обращений, после которого сессия удаляется
+     * @param maxSessions        максимальное количество открытых сессий
+     */
+    public TriangleSessionService(TriangleComputeService triangleComputeService,
+                                  TriangleValidationService triangleValidationService,
+                                  @Value("${triangle.sessions.idle-timeout-seconds:600}") long idleTimeoutSeconds,
+                                  @Value("${triangle.sessions.max-sessions:10000}") int maxSessions) {
+        this.triangleComputeService = triangleComputeService;
+        this.triangleValidationService = triangleValidationService;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Открытие сессии
+     *
+     * @param request {@link TriangleDataRequest} начальные значения длин сторон и углов треугольника
+     * @return {@link TriangleSessionData} идентификатор сессии и все параметры треугольника
+     * @throws TriangleValidateException если нельзя построить треугольник по заданным параметрам
+     */
+    public TriangleSessionData open(TriangleDataRequest request) {
+        triangleValidationService.validateTriangleDataRequest(request);
+
+        var session = new TriangleSession(UUID.randomUUID().toString(), copy(request));
+        recompute(session, ALL_NODES);
+
+        synchronized (admissionLock) {
+            if (sessions.size() >= maxSessions) {
+                evictForNewSession();
+            }
+            sessions.put(session.getId(), session);
+        }
+        return toSessionData(session);
+    }
+
+    /**
+     * Получение текущего состояния сессии
+     *
+     * @param id идентификатор сессии
+     * @return {@link TriangleSessionData} текущие значения и все параметры треугольника
+     */
+    public TriangleSessionData getSession(String id) {
+        var session = findSession(id);
+        synchronized (session) {
+            return toSessionData(session);
+        }
+    }
+
+    /**
+     * Изменение значений сессии.
+     * Если треугольник с новыми значениями не проходит валидацию, состояние сессии не меняется.
+     *
+     * @param id      идентификатор сессии
+     * @param changes новые значения полей {@link TriangleDataRequest} по их названиям
+     * @return {@link TriangleSessionUpdateData} изменившиеся параметры треугольника
+     * @throws TriangleValidateException если поле неизвестно или треугольник с новыми значениями не существует
+     */
+    public TriangleSessionUpdateData update(String id, Map<String, Double> changes) {
+        var session = findSession(id);
+        synchronized (session) {
+            var changedInputs = EnumSet.noneOf(TriangleSessionNode.class);
+            var candidate = copy(session.getTriangle());
+            List<String> errors = new ArrayList<>();
+            changes.forEach((field, value) -> {
+                val node = TriangleSessionNode.findInput(field);
+                if (node == null) {
+                    errors.add("Неизвестное поле треугольника: " + field);
+                } else if (value == null || !(value > 0)) {
+                    errors.add(field + " должно быть больше 0");
+                } else {
+                    node.getSetter().accept(candidate, value);
+                    changedInputs.add(node);
+                }
+            });
+            if (!errors.isEmpty()) {
+                throw new TriangleValidateException(errors);
+            }
+            triangleValidationService.validateTriangleDataRequest(candidate);
+
+            changedInputs.forEach(node -> node.getSetter().accept(session.getTriangle(),
+                    node.getGetter().applyAsDouble(candidate)));
+            return new TriangleSessionUpdateData(session.getId(), recompute(session, changedInputs));
+        }
+    }
+
+    /**
+     * Закрытие сессии
+     *
+     * @param id идентификатор сессии
+     */
+    public void close(String id) {
+        if (sessions.remove(id) == null) {
+            throw sessionNotFound(id);
+        }
+    }
+
+    int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Удаление сессий, к которым не обращались дольше {@code idleTimeout}
+     */
+    @Scheduled(fixedDelayString = "${triangle.sessions.eviction-interval-ms:60000}")
+    void evictIdleSessions() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(session -> session.isIdle(now, idleTimeoutNanos));
+    }
+
+    /**
+     * Освобождение места под новую сессию: сначала удаляются простаивающие сессии,
+     * если их нет - сессия с самым давним обращением
+     */
+    private void evictForNewSession() {
+        evictIdleSessions();
+        while (sessions.size() >= maxSessions && !sessions.isEmpty()) {
+            sessions.values().stream()
+                    .min(Comparator.comparingLong(TriangleSession::getLastAccessNanos))
+                    .ifPresent(session -> sessions.remove(session.getId(), session));
+        }
+    }
+
+    /**
+     * Пересчет узлов графа в топологическом порядке.
+     * Узел пересчитывается, если изменился хотя бы один узел, от которого он зависит. Если новое значение
+     * совпало с прежним, зависящие от узла величины повторно не пересчитываются.
+     *
+     * @param session {@link TriangleSession} сессия
+     * @param dirty   изменившиеся исходные значения, для новой сессии - все узлы
+     * @return изменившиеся параметры по пути к полю {@link TriangleDataResponse}
+     */
+    private Map<String, Object> recompute(TriangleSession session, Set<TriangleSessionNode> dirty) {
+        var values = session.getValues();
+        var changedNodes = EnumSet.noneOf(TriangleSessionNode.class);
+        Map<String, Object> changedOutputs = new LinkedHashMap<>();
+
+        for (var node : TriangleSessionNode.values()) {
+            if (!dirty.contains(node) && !node.dependsOnAny(changedNodes)) {
+                continue;
+            }
+            val value = node.compute(triangleComputeService, session.getTriangle(), values);
+            val initial = !values.containsKey(node);
+            val previous = values.put(node, value);
+            if (initial || !Objects.equals(previous, value)) {
+                changedNodes.add(node);
+                if (!node.isInput() && node.getPath() != null) {
+                    changedOutputs.put(node.getPath(), value);
+                }
+            }
+        }
+        return changedOutputs;
+    }
+
+    private TriangleSessionData toSessionData(TriangleSession session) {
+        session.touch();
+        var values = session.getValues();
+        val triangleInfo = TriangleDataResponse.builder()
+                .area((double) values.get(AREA))
+                .perimeter((double) values.get(PERIMETER))
+                .sideType((TriangleSideType) values.get(SIDE_TYPE))
+                .angleType((TriangleAngleType) values.get(ANGLE_TYPE))
+                .medians(new TriangleMedianData((double) values.get(MEDIAN_A), (double) values.get(MEDIAN_B),
+                        (double) values.get(MEDIAN_C)))
+                .bisectors(new TriangleBisectorData((double) values.get(BISECTOR_A), (double) values.get(BISECTOR_B),
+                        (double) values.get(BISECTOR_C)))
+                .heights(new TriangleHeightData((double) values.get(HEIGHT_A), (double) values.get(HEIGHT_B),
+                        (double) values.get(HEIGHT_C)))
+                .inscribedCircle((double) values.get(INSCRIBED_CIRCLE))
+                .circumscribedCircle((double) values.get(CIRCUMSCRIBED_CIRCLE))
+                .rightTriangleInfo((RightTypeTriangleData) values.get(RIGHT_TRIANGLE_INFO))
+                .build();
+        return new TriangleSessionData(session.getId(), copy(session.getTriangle()), triangleInfo);
+    }
+
+    private TriangleSession findSession(String id) {
+        var session = sessions.get(id);
+        if (session == null) {
+            throw sessionNotFound(id);
+        }
+        session.touch();
+        return session;
+    }
+
+    private TriangleStatusException sessionNotFound(String id) {
+        return new TriangleStatusException(HttpStatus.NOT_FOUND, "Сессия " + id + " не найдена");
+    }
+
+    private static TriangleDataRequest copy(TriangleDataRequest request) {
+        return new TriangleDataRequest(request.getSideAB(), request.getSideBC(), request.getSideAC(),
+                request.getAngleA(), request.getAngleB(), request.getAngleC());
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleShapeDescriptor;
+import org.example.trianglecalculator.dto.RegisteredTriangleData;
+import org.example.trianglecalculator.dto.TriangleShapeMatchData;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Индекс треугольников по форме на равномерной сетке над пространством {@link TriangleShapeDescriptor}.
+ * <p>
+ * Чтение не блокируется: ячейка публикует снимок своих массивов через volatile-поле, и запрос видит
+ * согласованный префикс записей. Вставки в одну ячейку сериализуются монитором этой ячейки,
+ * вставки в разные ячейки идут параллельно.
+ */
+public class TriangleShapeIndex {
+
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final int resolution;
+    private final double cellSize;
+    private final AtomicReferenceArray<Cell> cells;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * @param resolution количество ячеек сетки по каждой из осей
+     */
+    public TriangleShapeIndex(int resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Размер сетки индекса должен быть больше 0");
+        }
+        this.resolution = resolution;
+        this.cellSize = 1.0 / resolution;
+        this.cells = new AtomicReferenceArray<>(resolution * resolution);
+    }
+
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Добавление треугольника в индекс
+     *
+     * @param triangle {@link RegisteredTriangleData} идентификатор и параметры треугольника
+     */
+    public void add(RegisteredTriangleData triangle) {
+        var shape = TriangleShapeDescriptor.of(triangle.triangle());
+        cellAt(cellIndex(column(shape), row(shape))).addAll(List.of(new Entry(shape, triangle)));
+        size.increment();
+    }
+
+    /**
+     * Пакетная загрузка: записи группируются по ячейкам, и каждая ячейка публикует новый снимок один раз.
+     * Ячейки заполняются в вызывающем потоке: копирование массивов ячеек дешевле расчета дескрипторов,
+     * а общий пул параллельных потоков занимать не нужно.
+     *
+     * @param triangles список {@link RegisteredTriangleData}
+     */
+    public void addAll(Collection<RegisteredTriangleData> triangles) {
+        Map<Integer, List<Entry>> entriesByCell = triangles.stream()
+                .map(triangle -> new Entry(TriangleShapeDescriptor.of(triangle.triangle()), triangle))
+                .collect(Collectors.groupingBy(entry -> cellIndex(column(entry.shape), row(entry.shape))));
+
+        entriesByCell.forEach((cell, entries) -> cellAt(cell).addAll(entries));
+        size.add(triangles.size());
+    }
+
+    /**
+     * Поиск k ближайших по форме треугольников.
+     *
+     * @param shape {@link TriangleShapeDescriptor} форма искомого треугольника
+     * @param k     количество результатов
+     * @return найденные треугольники по возрастанию расстояния
+     * @implNote Ячейки просматриваются кольцами вокруг ячейки запроса. Поиск останавливается,
+     * когда найдено k записей и расстояние до k-й не превышает расстояния до следующего кольца.
+     */
+    public List<TriangleShapeMatchData> nearest(TriangleShapeDescriptor shape, int k) {
+        var candidates = new PriorityQueue<TriangleShapeMatchData>(
+                Comparator.comparingDouble(TriangleShapeMatchData::distance).reversed());
+        int column = column(shape);
+        int row = row(shape);
+
+        int lastRing = Math.max(Math.max(column, resolution - 1 - column), Math.max(row, resolution - 1 - row));
+
+        for (int ring = 0; ring <= lastRing; ring++) {
+            for (int c = Math.max(0, column - ring); c <= Math.min(resolution - 1, column + ring); c++) {
+                if (Math.abs(c - column) == ring) {
+                    for (int r = Math.max(0, row - ring); r <= Math.min(resolution - 1, row + ring); r++) {
+                        collectNearest(c, r, shape, k, candidates);
+                    }
+                } else {
+                    if (row - ring >= 0) {
+                        collectNearest(c, row - ring, shape, k, candidates);
+                    }
+                    if (row + ring < resolution) {
+                        collectNearest(c, row + ring, shape, k, candidates);
+                    }
+                }
+            }
+            if (candidates.size() == k && candidates.peek().distance() <= ring * cellSize) {
+                break;
+            }
+        }
+
+        var result = new ArrayList<>(candidates);
+        result.sort(Comparator.comparingDouble(TriangleShapeMatchData::distance));
+        return result;
+    }
+
+    /**
+     * Поиск треугольников, форма которых отличается не более чем на заданное расстояние
+     *
+     * @param shape  {@link TriangleShapeDescriptor} форма искомого треугольника
+     * @param radius максимальное расстояние между формами
+     * @param limit  максимальное количество результатов: найдя больше, поиск останавливается и возвращает
+     *               {@code limit + 1} произвольных совпадений, чтобы вызывающий код мог отклонить запрос
+     * @return найденные треугольники по возрастанию расстояния
+     */
+    public List<TriangleShapeMatchData> withinRadius(TriangleShapeDescriptor shape, double radius, int limit) {
+        int fromColumn = clamp((int) Math.floor((shape.shortRatio() - radius) * resolution));
+        int toColumn = clamp((int) Math.floor((shape.shortRatio() + radius) * resolution));
+        int fromRow = clamp((int) Math.floor((shape.middleRatio() - radius) * resolution));
+        int toRow = clamp((int) Math.floor((shape.middleRatio() + radius) * resolution));
+
+        List<TriangleShapeMatchData> result = new ArrayList<>();
+        for (int c = fromColumn; c <= toColumn; c++) {
+            for (int r = fromRow; r <= toRow; r++) {
+                var cell = cells.get(cellIndex(c, r));
+                if (cell == null) {
+                    continue;
+                }
+                var snapshot = cell.snapshot;
+                for (int i = 0; i < snapshot.count; i++) {
+                    double distance = distance(snapshot, i, shape);
+                    if (distance <= radius) {
+                        result.add(toMatch(snapshot.triangles[i], distance));
+                        if (result.size() > limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(TriangleShapeMatchData::distance));
+        return result;
+    }
+
+    private void collectNearest(int column, int row, TriangleShapeDescriptor shape, int k,
+                                PriorityQueue<TriangleShapeMatchData> candidates) {
+        var cell = cells.get(cellIndex(column, row));
+        if (cell == null) {
+            return;
+        }
+        var snapshot = cell.snapshot;
+        for (int i = 0; i < snapshot.count; i++) {
+            double distance = distance(snapshot, i, shape);
+            if (candidates.size() < k) {
+                candidates.add(toMatch(snapshot.triangles[i], distance));
+            } else if (distance < candidates.peek().distance()) {
+                candidates.poll();
+                candidates.add(toMatch(snapshot.triangles[i], distance));
+            }
+        }
+    }
+
+    private double distance(Snapshot snapshot, int i, TriangleShapeDescriptor shape) {
+        double dx = snapshot.shortRatios[i] - shape.shortRatio();
+        double dy = snapshot.middleRatios[i] - shape.middleRatio();
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private TriangleShapeMatchData toMatch(RegisteredTriangleData triangle, double distance) {
+        return new TriangleShapeMatchData(triangle.id(), distance, triangle.triangle());
+    }
+
+    private Cell cellAt(int index) {
+        var cell = cells.get(index);
+        if (cell == null) {
+            cells.compareAndSet(index, null, new Cell());
+            cell = cells.get(index);
+        }
+        return cell;
+    }
+
+    private int column(TriangleShapeDescriptor shape) {
+        return clamp((int) (shape.shortRatio() * resolution));
+    }
+
+    private int row(TriangleShapeDescriptor shape) {
+        return clamp((int) (shape.middleRatio() * resolution));
+    }
+
+    private int clamp(int position) {
+        return Math.max(0, Math.min(resolution - 1, position));
+    }
+
+    private int cellIndex(int column, int row) {
+        return column * resolution + row;
+    }
+
+    private record Entry(TriangleShapeDescriptor shape, RegisteredTriangleData triangle) {
+    }
+
+    /**
+     * Неизменяемый для читателей снимок ячейки: элементы с индексами меньше {@code count}
+     * записаны до публикации снимка и больше не меняются.
+     */
+    private record Snapshot(double[] shortRatios, double[] middleRatios, RegisteredTriangleData[] triangles,
+                            int count) {
+
+        static final Snapshot EMPTY = new Snapshot(new double[0], new double[0], new RegisteredTriangleData[0], 0);
+    }
+
+    private static final class Cell {
+
+        volatile Snapshot snapshot = Snapshot.EMPTY;
+
+        synchronized void addAll(List<Entry> entries) {
+            var current = snapshot;
+            int count = current.count;
+            int required = count + entries.size();
+
+            var shortRatios = current.shortRatios;
+            var middleRatios = current.middleRatios;
+            var triangles = current.triangles;
+            if (required > shortRatios.length) {
+                int capacity = Math.max(required, Math.max(INITIAL_CELL_CAPACITY, shortRatios.length * 2));
+                shortRatios = Arrays.copyOf(shortRatios, capacity);
+                middleRatios = Arrays.copyOf(middleRatios, capacity);
+                triangles = Arrays.copyOf(triangles, capacity);
+            }
+
+            for (var entry : entries) {
+                shortRatios[count] = entry.shape.shortRatio();
+                middleRatios[count] = entry.shape.middleRatio();
+                triangles[count] = entry.triangle;
+                count++;
+            }
+            snapshot = new Snapshot(shortRatios, middleRatios, triangles, count);
+        }
+    }
+}
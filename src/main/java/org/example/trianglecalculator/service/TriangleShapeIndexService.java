@@ -0,0 +1,107 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.domain.TriangleShapeDescriptor;
+import org.example.trianglecalculator.dto.RegisteredTriangleData;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleShapeMatchData;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleShapeIndexService {
+
+    public static final int MAX_NEAREST = 1000;
+    private static final double MAX_SHAPE_DISTANCE = Math.sqrt(2);
+
+    TriangleValidationService triangleValidationService;
+    TriangleShapeIndex triangleShapeIndex;
+
+    public TriangleShapeIndexService(TriangleValidationService triangleValidationService,
+                                     @Value("${triangle.shape-index.resolution:256}") int resolution) {
+        this.triangleValidationService = triangleValidationService;
+        this.triangleShapeIndex = new TriangleShapeIndex(resolution);
+    }
+
+    /**
+     * Регистрация треугольника в индексе форм. Идентификатор на уникальность не проверяется.
+     *
+     * @param triangle {@link RegisteredTriangleData} идентификатор и параметры треугольника
+     * @throws TriangleValidateException если нельзя построить треугольник по заданным параметрам
+     */
+    public void register(RegisteredTriangleData triangle) {
+        triangleValidationService.validateTriangleDataRequest(triangle.triangle());
+        triangleShapeIndex.add(triangle);
+    }
+
+    /**
+     * Пакетная регистрация треугольников. Если хотя бы один треугольник не проходит валидацию,
+     * в индекс не добавляется ни один.
+     *
+     * @param triangles список {@link RegisteredTriangleData}
+     * @throws TriangleValidateException с ошибками, помеченными идентификаторами треугольников
+     */
+    public void registerAll(List<RegisteredTriangleData> triangles) {
+        List<String> errors = new ArrayList<>();
+        for (var triangle : triangles) {
+            try {
+                triangleValidationService.validateTriangleDataRequest(triangle.triangle());
+            } catch (TriangleValidateException e) {
+                e.getErrors().forEach(error -> errors.add(triangle.id() + ": " + error));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new TriangleValidateException(errors);
+        }
+        triangleShapeIndex.addAll(triangles);
+    }
+
+    /**
+     * Поиск ближайших по форме зарегистрированных треугольников
+     *
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов треугольника
+     * @param k       количество результатов, от 1 до {@value MAX_NEAREST}
+     * @return список {@link TriangleShapeMatchData} по возрастанию расстояния
+     */
+    public List<TriangleShapeMatchData> findNearest(TriangleDataRequest request, int k) {
+        if (k <= 0 || k > MAX_NEAREST) {
+            throw new TriangleValidateException(
+                    List.of("Количество результатов должно быть от 1 до " + MAX_NEAREST));
+        }
+        triangleValidationService.validateTriangleDataRequest(request);
+        return triangleShapeIndex.nearest(TriangleShapeDescriptor.of(request), k);
+    }
+
+    /**
+     * Поиск зарегистрированных треугольников, форма которых отличается не более чем на заданное расстояние
+     *
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов треугольника
+     * @param radius  максимальное расстояние между формами
+     * @return список {@link TriangleShapeMatchData} по возрастанию расстояния, не больше {@value MAX_NEAREST}
+     * @throws TriangleValidateException если найдено больше {@value MAX_NEAREST} треугольников
+     */
+    public List<TriangleShapeMatchData> findWithinRadius(TriangleDataRequest request, double radius) {
+        if (radius <= 0 || radius > MAX_SHAPE_DISTANCE) {
+            throw new TriangleValidateException(
+                    List.of("Расстояние между формами должно быть больше 0 и не больше √2"));
+        }
+        triangleValidationService.validateTriangleDataRequest(request);
+        var matches = triangleShapeIndex.withinRadius(TriangleShapeDescriptor.of(request), radius, MAX_NEAREST);
+        if (matches.size() > MAX_NEAREST) {
+            throw new TriangleValidateException(List.of(
+                    "Найдено больше " + MAX_NEAREST + " треугольников, уменьшите расстояние между формами"));
+        }
+        return matches;
+    }
+
+    public long size() {
+        return triangleShapeIndex.size();
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.example.trianglecalculator.domain.TriangleSideType;
+import org.example.trianglecalculator.dto.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Кэш результатов расчета по классам подобия треугольников.
+ * <p>
+ * Тип по сторонам и углам, углы и тригонометрические значения прямоугольного треугольника одинаковы
+ * для всех подобных треугольников, а длины и площади отличаются только множителями k и k².
+ * Поэтому результат хранится для треугольника, приведенного к единичной длине наибольшей стороны,
+ * и при попадании масштабируется под длину наибольшей стороны запроса.
+ * <p>
+ * Результаты хранятся в {@link ConcurrentHashMap}, поэтому чтения из разных потоков не блокируют друг друга.
+ * Вытеснение приближенно LRU: у записи хранится время последнего обращения, и при превышении емкости
+ * один поток удаляет партию давно не использованных записей, остальные потоки его не ждут.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleSimilarityCache {
+
+    /**
+     * Время последнего обращения обновляется не чаще этого интервала, чтобы чтения популярной записи
+     * из разных потоков не писали в одну и ту же память
+     */
+    private static final long ACCESS_GRANULARITY_NANOS = 1_000_000;
+
+    boolean enabled;
+    double tolerance;
+    int capacity;
+    int evictionBatch;
+    Map<ShapeKey, CacheEntry> unitResponses = new ConcurrentHashMap<>();
+    ReentrantLock evictionLock = new ReentrantLock();
+    LongAdder hits = new LongAdder();
+    LongAdder misses = new LongAdder();
+
+    /**
+     * @param enabled   признак использования кэша
+     * @param tolerance относительная погрешность, в пределах которой отношения сторон считаются равными
+     * @param capacity  максимальное количество хранимых классов подобия
+     */
+    public TriangleSimilarityCache(@Value("${triangle.cache.similarity.enabled:true}") boolean enabled,
+                                   @Value("${triangle.cache.similarity.tolerance:1e-9}") double tolerance,
+                                   @Value("${triangle.cache.similarity.capacity:10000}") int capacity) {
+        if (tolerance <= 0) {
+            throw new IllegalArgumentException("Погрешность кэша подобия должна быть больше 0");
+        }
+        this.enabled = enabled;
+        this.tolerance = tolerance;
+        this.capacity = Math.max(1, capacity);
+        this.evictionBatch = Math.max(1, this.capacity / 10);
+    }
+
+    /**
+     * Возвращает результат расчета для подобного треугольника, масштабированный под запрос,
+     * либо вычисляет его и сохраняет в приведенном к единичному масштабу виде
+     *
+     * @param request  {@link TriangleDataRequest} значения длин сторон и углов треугольника
+     * @param sideType {@link TriangleSideType} тип треугольника по сторонам, входит в ключ,
+     *                 чтобы погрешность не смешивала разносторонние и равнобедренные треугольники
+     * @param compute  расчет параметров треугольника при промахе
+     * @return {@link TriangleDataResponse}
+     */
+    public TriangleDataResponse computeIfAbsent(TriangleDataRequest request, TriangleSideType sideType,
+                                                Supplier<TriangleDataResponse> compute) {
+        if (!enabled) {
+            return compute.get();
+        }
+        val longestSide = Math.max(request.getSideAB(), Math.max(request.getSideBC(), request.getSideAC()));
+        val key = toShapeKey(request, sideType, longestSide);
+
+        val entry = unitResponses.get(key);
+        if (entry != null) {
+            entry.touch(System.nanoTime());
+            hits.increment();
+            return scale(entry.unitResponse, longestSide);
+        }
+
+        misses.increment();
+        val response = compute.get();
+        unitResponses.put(key, new CacheEntry(scale(response, 1 / longestSide), System.nanoTime()));
+        if (unitResponses.size() > capacity) {
+            evict();
+        }
+        return response;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return unitResponses.size();
+    }
+
+    public void clear() {
+        unitResponses.clear();
+    }
+
+    /**
+     * Удаление давно не использованных записей, пока их количество не станет на {@code evictionBatch}
+     * меньше емкости. Если вытеснение уже выполняет другой поток, вызов сразу возвращается.
+     *
+     * @implNote Время обращения записей копируется до сортировки: оно меняется параллельными чтениями.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = unitResponses.size() - capacity + evictionBatch;
+            if (excess <= evictionBatch) {
+                return;
+            }
+            List<AccessSnapshot> snapshots = new ArrayList<>(unitResponses.size());
+            unitResponses.forEach((key, entry) -> snapshots.add(new AccessSnapshot(key, entry.lastAccess)));
+            snapshots.sort(Comparator.comparingLong(AccessSnapshot::lastAccess));
+            for (int i = 0; i < Math.min(excess, snapshots.size()); i++) {
+                unitResponses.remove(snapshots.get(i).key());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Построение ключа класса подобия.
+     *
+     * @implNote Стороны делятся на длину наибольшей стороны и округляются до шага {@code tolerance}.
+     * Порядок сторон не меняется, так как медианы, биссектрисы и высоты в ответе привязаны к вершинам.
+     * Углы входят в ключ без изменений: они не зависят от масштаба и используются в расчете напрямую.
+     */
+    private ShapeKey toShapeKey(TriangleDataRequest request, TriangleSideType sideType, double longestSide) {
+        return new ShapeKey(
+                Math.round(request.getSideAB() / longestSide / tolerance),
+                Math.round(request.getSideBC() / longestSide / tolerance),
+                Math.round(request.getSideAC() / longestSide / tolerance),
+                request.getAngleA(),
+                request.getAngleB(),
+                request.getAngleC(),
+                sideType
+        );
+    }
+
+    /**
+     * Масштабирование результата расчета.
+     *
+     * @param response {@link TriangleDataResponse} исходный результат
+     * @param k        коэффициент подобия
+     * @return новый {@link TriangleDataResponse}: длины умножены на k, площади на k²,
+     * типы и тригонометрические значения не меняются
+     */
+    private TriangleDataResponse scale(TriangleDataResponse response, double k) {
+        val k2 = k * k;
+        val medians = response.getMedians();
+        val bisectors = response.getBisectors();
+        val heights = response.getHeights();
+
+        return TriangleDataResponse.builder()
+                .area(response.getArea() * k2)
+                .perimeter(response.getPerimeter() * k)
+                .sideType(response.getSideType())
+                .angleType(response.getAngleType())
+                .medians(new TriangleMedianData(
+                        medians.medianA() * k, medians.medianB() * k, medians.medianC() * k))
+                .bisectors(new TriangleBisectorData(
+                        bisectors.bisectorA() * k, bisectors.bisectorB() * k, bisectors.bisectorC() * k))
+                .heights(new TriangleHeightData(
+                        heights.heightA() * k, heights.heightB() * k, heights.heightC() * k))
+                .inscribedCircle(response.getInscribedCircle() * k2)
+                .circumscribedCircle(response.getCircumscribedCircle() * k2)
+                .rightTriangleInfo(scale(response.getRightTriangleInfo(), k))
+                .build();
+    }
+
+    private RightTypeTriangleData scale(RightTypeTriangleData rightTriangleInfo, double k) {
+        if (rightTriangleInfo == null) {
+            return null;
+        }
+        var scaled = new RightTypeTriangleData();
+        scaled.setHypotenuse(rightTriangleInfo.getHypotenuse() * k);
+        scaled.setAdjacentLeg(rightTriangleInfo.getAdjacentLeg() * k);
+        scaled.setOppositeLeg(rightTriangleInfo.getOppositeLeg() * k);
+        scaled.setSinDegrees(rightTriangleInfo.getSinDegrees());
+        scaled.setSinRadians(rightTriangleInfo.getSinRadians());
+        scaled.setCosDegrees(rightTriangleInfo.getCosDegrees());
+        scaled.setCosRadians(rightTriangleInfo.getCosRadians());
+        scaled.setTgDegrees(rightTriangleInfo.getTgDegrees());
+        scaled.setTgRadians(rightTriangleInfo.getTgRadians());
+        return scaled;
+    }
+
+    /**
+     * Результат для единичного масштаба и время последнего обращения
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class CacheEntry {
+
+        final TriangleDataResponse unitResponse;
+        volatile long lastAccess;
+
+        CacheEntry(TriangleDataResponse unitResponse, long lastAccess) {
+            this.unitResponse = unitResponse;
+            this.lastAccess = lastAccess;
+        }
+
+        void touch(long now) {
+            if (now - lastAccess > ACCESS_GRANULARITY_NANOS) {
+                lastAccess = now;
+            }
+        }
+    }
+
+    private record AccessSnapshot(ShapeKey key, long lastAccess) {
+    }
+
+    private record ShapeKey(
+            long ratioAB,
+            long ratioBC,
+            long ratioAC,
+            double angleA,
+            double angleB,
+            double angleC,
+            TriangleSideType sideType
+    ) {
+    }
+}
@@ -0,0 +1,277 @@
+package org.example.trianglecalculator.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleSweepRange;
+import org.example.trianglecalculator.validation.AngleSumRule;
+import org.example.trianglecalculator.validation.TriangleInequalityRule;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Ленивый перебор точек параметрического пространства треугольников.
+ * <p>
+ * Точки, не проходящие {@link TriangleInequalityRule} и {@link AngleSumRule}, не выдаются: вместо перебора
+ * и последующего отклонения диапазоны сужаются заранее, а зависимые значения вычисляются.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+abstract class TriangleSweepGrid implements Iterator<TriangleDataRequest> {
+
+    /**
+     * Допустимое отклонение суммы углов сетки от 180 из-за округления значений дробного шага
+     */
+    private static final double ANGLE_SUM_TOLERANCE = 1e-9;
+
+    /**
+     * Количество точек полного перебора без отсечения
+     */
+    @Getter
+    final long gridSize;
+
+    /**
+     * Верхняя оценка количества выдаваемых точек: для сетки - произведение количеств значений сторон
+     * на количество сочетаний углов с суммой 180, неравенство треугольника в оценке не учитывается
+     */
+    @Getter
+    final long upperBound;
+
+    TriangleDataRequest next;
+    boolean done;
+
+    TriangleSweepGrid(long gridSize, long upperBound) {
+        this.gridSize = gridSize;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Перебор по независимым диапазонам сторон и углов.
+     * <p>
+     * Допустимые сочетания углов вычисляются один раз: для каждой пары углов A и B угол C ищется
+     * в своем диапазоне по значению {@code 180 - A - B}, а не перебором. Значения дробного шага в double
+     * не дают сумму ровно 180, поэтому угол C из диапазона принимается с допуском {@value ANGLE_SUM_TOLERANCE}
+     * и заменяется на {@link TriangleGeometry#closingAngle}, с которым сумма равна 180 точно
+     * и проходит {@link AngleSumRule}.
+     * Для каждой пары сторон AB и BC
+     * перебираются только значения AC из интервала {@code (|AB - BC|, AB + BC)}.
+     */
+    static TriangleSweepGrid grid(TriangleSweepRange sideAB, TriangleSweepRange sideBC, TriangleSweepRange sideAC,
+                                  TriangleSweepRange angleA, TriangleSweepRange angleB, TriangleSweepRange angleC,
+                                  TriangleInequalityRule inequalityRule, AngleSumRule angleSumRule) {
+        long gridSize = multiply(multiply(sideAB.count(), sideBC.count()), sideAC.count());
+        gridSize = multiply(multiply(multiply(gridSize, angleA.count()), angleB.count()), angleC.count());
+        List<double[]> angles = validAngles(angleA, angleB, angleC, angleSumRule);
+        return new GridSweep(sideAB, sideBC, sideAC, angles, inequalityRule, gridSize);
+    }
+
+    /**
+     * Перебор по двум сторонам и углу между ними: сторона BC вычисляется по теореме косинусов,
+     * угол B - по сторонам, угол C дополняет сумму углов до 180.
+     */
+    static TriangleSweepGrid sideAngleSide(TriangleSweepRange sideAB, TriangleSweepRange sideAC,
+                                           TriangleSweepRange angleA,
+                                           TriangleInequalityRule inequalityRule, AngleSumRule angleSumRule) {
+        long gridSize = multiply(multiply(sideAB.count(), sideAC.count()), angleA.count());
+        return new SideAngleSideSweep(sideAB, sideAC, angleA, inequalityRule, angleSumRule, gridSize);
+    }
+
+    /**
+     * Вычисление следующей точки
+     *
+     * @return точка или {@code null}, если перебор закончен
+     */
+    abstract TriangleDataRequest computeNext();
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = computeNext();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public TriangleDataRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var result = next;
+        next = null;
+        return result;
+    }
+
+    private static List<double[]> validAngles(TriangleSweepRange angleA, TriangleSweepRange angleB,
+                                              TriangleSweepRange angleC, AngleSumRule angleSumRule) {
+        List<double[]> angles = new ArrayList<>();
+        var probe = new TriangleDataRequest();
+        for (long i = 0; i < angleA.count(); i++) {
+            double a = angleA.valueAt(i);
+            for (long j = 0; j < angleB.count(); j++) {
+                double b = angleB.valueAt(j);
+                long nearest = Math.round((180 - a - b - angleC.from()) / angleC.step());
+                for (long k = Math.max(0, nearest - 1); k <= Math.min(angleC.count() - 1, nearest + 1); k++) {
+                    if (Math.abs(a + b + angleC.valueAt(k) - 180) >= ANGLE_SUM_TOLERANCE) {
+                        continue;
+                    }
+                    probe.setAngleA(a);
+                    probe.setAngleB(b);
+                    probe.setAngleC(TriangleGeometry.closingAngle(a, b));
+                    if (angleSumRule.isSatisfied(probe)) {
+                        angles.add(new double[]{a, b, probe.getAngleC()});
+                    }
+                }
+            }
+        }
+        return angles;
+    }
+
+    private static long multiply(long a, long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class GridSweep extends TriangleSweepGrid {
+
+        final TriangleSweepRange sideAB;
+        final TriangleSweepRange sideBC;
+        final TriangleSweepRange sideAC;
+        final List<double[]> angles;
+        final TriangleInequalityRule inequalityRule;
+        final TriangleDataRequest probe = new TriangleDataRequest();
+
+        long ab;
+        long bc = -1;
+        long ac;
+        long acLast = -1;
+        int angle;
+        boolean sidesReady;
+
+        GridSweep(TriangleSweepRange sideAB, TriangleSweepRange sideBC, TriangleSweepRange sideAC,
+                  List<double[]> angles, TriangleInequalityRule inequalityRule, long gridSize) {
+            super(gridSize,
+                    multiply(multiply(multiply(sideAB.count(), sideBC.count()), sideAC.count()), angles.size()));
+            this.sideAB = sideAB;
+            this.sideBC = sideBC;
+            this.sideAC = sideAC;
+            this.angles = angles;
+            this.inequalityRule = inequalityRule;
+        }
+
+        @Override
+        TriangleDataRequest computeNext() {
+            if (angles.isEmpty()) {
+                return null;
+            }
+            if (!sidesReady || angle == angles.size()) {
+                if (!nextSides()) {
+                    return null;
+                }
+                sidesReady = true;
+                angle = 0;
+            }
+            var angleValues = angles.get(angle++);
+            return new TriangleDataRequest(probe.getSideAB(), probe.getSideBC(), probe.getSideAC(),
+                    angleValues[0], angleValues[1], angleValues[2]);
+        }
+
+        /**
+         * Переход к следующей тройке сторон, удовлетворяющей неравенству треугольника
+         */
+        private boolean nextSides() {
+            while (true) {
+                while (ac < acLast) {
+                    ac++;
+                    probe.setSideAC(sideAC.valueAt(ac));
+                    if (inequalityRule.isSatisfied(probe)) {
+                        return true;
+                    }
+                }
+                if (++bc >= sideBC.count()) {
+                    bc = 0;
+                    ab++;
+                }
+                if (ab >= sideAB.count() || sideBC.count() == 0) {
+                    return false;
+                }
+                double abValue = sideAB.valueAt(ab);
+                double bcValue = sideBC.valueAt(bc);
+                probe.setSideAB(abValue);
+                probe.setSideBC(bcValue);
+                long first = (long) Math.floor((Math.abs(abValue - bcValue) - sideAC.from()) / sideAC.step());
+                long last = (long) Math.ceil((abValue + bcValue - sideAC.from()) / sideAC.step());
+                ac = Math.max(0, first) - 1;
+                acLast = Math.min(sideAC.count() - 1, last);
+            }
+        }
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class SideAngleSideSweep extends TriangleSweepGrid {
+
+        final TriangleSweepRange sideAB;
+        final TriangleSweepRange sideAC;
+        final TriangleSweepRange angleA;
+        final TriangleInequalityRule inequalityRule;
+        final AngleSumRule angleSumRule;
+
+        long index = -1;
+
+        SideAngleSideSweep(TriangleSweepRange sideAB, TriangleSweepRange sideAC, TriangleSweepRange angleA,
+                           TriangleInequalityRule inequalityRule, AngleSumRule angleSumRule, long gridSize) {
+            super(gridSize, gridSize);
+            this.sideAB = sideAB;
+            this.sideAC = sideAC;
+            this.angleA = angleA;
+            this.inequalityRule = inequalityRule;
+            this.angleSumRule = angleSumRule;
+        }
+
+        @Override
+        TriangleDataRequest computeNext() {
+            while (++index < getGridSize()) {
+                long angles = angleA.count();
+                long sides = sideAC.count();
+                var triangle = solve(sideAB.valueAt(index / (angles * sides)),
+                        sideAC.valueAt(index / angles % sides),
+                        angleA.valueAt(index % angles));
+                if (triangle != null) {
+                    return triangle;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Решение треугольника по двум сторонам и углу между ними
+         *
+         * @return треугольник или {@code null}, если он не проходит неравенство треугольника или сумму углов
+         * @implNote Сторона BC вычисляется по теореме косинусов:
+         * <pre>
+         *     BC = √(AB^2 + AC^2 - 2 * AB * AC * cos(A))
+         * </pre>
+         * угол B - по теореме косинусов для сторон, угол C - {@link TriangleGeometry#closingAngle}.
+         */
+        private TriangleDataRequest solve(double ab, double ac, double a) {
+            if (a >= 180) {
+                return null;
+            }
+            double bc = Math.sqrt(ab * ab + ac * ac - 2 * ab * ac * Math.cos(Math.toRadians(a)));
+            double b = TriangleGeometry.angle(ab * ab, bc * bc, ac * ac);
+            var triangle = new TriangleDataRequest(ab, bc, ac, a, b, TriangleGeometry.closingAngle(a, b));
+            if (triangle.getAngleC() <= 0 || !angleSumRule.isSatisfied(triangle)
+                    || !inequalityRule.isSatisfied(triangle)) {
+                return null;
+            }
+            return triangle;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.trianglecalculator.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.example.trianglecalculator.domain.TriangleAngleType;
+import org.example.trianglecalculator.domain.TriangleSideType;
+import org.example.trianglecalculator.domain.TriangleSweepParameterization;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleSweepAggregateData;
+import org.example.trianglecalculator.dto.TriangleSweepRange;
+import org.example.trianglecalculator.dto.TriangleSweepRequest;
+import org.example.trianglecalculator.dto.TriangleSweepResultData;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.validation.AngleSumRule;
+import org.example.trianglecalculator.validation.TriangleInequalityRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Параметрический перебор треугольников.
+ * <p>
+ * Точки перебора выдаются {@link TriangleSweepGrid} лениво и рассчитываются блоками по {@value BLOCK_SIZE}:
+ * блок рассчитывается параллельно через {@link TriangleComputeService}, а следующий блок формируется только
+ * после того, как результаты предыдущего переданы клиенту, поэтому память не зависит от размера перебора.
+ * Блоки рассчитываются в собственном {@link ForkJoinPool}, а не в общем пуле, который используют
+ * параллельные потоки других сервисов. Количество одновременно выполняемых расчетов сводных показателей
+ * ограничено, запросы сверх лимита отклоняются.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TriangleSweepService {
+
+    private static final int BLOCK_SIZE = 4096;
+
+    TriangleComputeService triangleComputeService;
+    TriangleInequalityRule triangleInequalityRule;
+    AngleSumRule angleSumRule;
+    long maxPoints;
+    ForkJoinPool pool;
+    Semaphore aggregatePermits;
+
+    /**
+     * @param maxPoints     максимальное количество точек перебора. Сравнивается с {@link TriangleSweepGrid#getUpperBound}:
+     *                      сочетания углов отсекаются по сумме углов, а неравенство треугольника не учитывается,
+     *                      поэтому лимит проверяется по произведению количеств значений сторон
+     * @param parallelism   количество потоков расчета, по умолчанию равно количеству ядер
+     * @param maxAggregates максимальное количество одновременно выполняемых расчетов сводных показателей
+     */
+    public TriangleSweepService(TriangleComputeService triangleComputeService,
+                                TriangleInequalityRule triangleInequalityRule,
+                                AngleSumRule angleSumRule,
+                                @Value("${triangle.sweep.max-points:10000000}") long maxPoints,
+                                @Value("${triangle.sweep.parallelism:0}") int parallelism,
+                                @Value("${triangle.sweep.max-aggregates:4}") int maxAggregates) {
+        this.triangleComputeService = triangleComputeService;
+        this.triangleInequalityRule = triangleInequalityRule;
+        this.angleSumRule = angleSumRule;
+        this.maxPoints = maxPoints;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.aggregatePermits = new Semaphore(Math.max(1, maxAggregates));
+    }
+
+    /**
+     * Перебор с расчетом каждой точки
+     *
+     * @param request {@link TriangleSweepRequest} диапазоны сторон и углов
+     * @return ленивый поток {@link TriangleSweepResultData} в порядке перебора
+     * @throws TriangleValidateException если диапазоны заданы неверно или точек перебора слишком много
+     */
+    public Stream<TriangleSweepResultData> sweep(TriangleSweepRequest request) {
+        var grid = createGrid(request);
+        Iterator<TriangleSweepResultData[]> blocks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return grid.hasNext();
+            }
+
+            @Override
+            public TriangleSweepResultData[] next() {
+                return computeBlock(grid);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(blocks, Spliterator.ORDERED), false)
+                .flatMap(Arrays::stream);
+    }
+
+    /**
+     * Перебор с расчетом сводных показателей без передачи результатов каждой точки
+     *
+     * @param request {@link TriangleSweepRequest} диапазоны сторон и углов
+     * @return {@link TriangleSweepAggregateData} сводные показатели перебора
+     * @throws TriangleValidateException если диапазоны заданы неверно или точек перебора слишком много
+     * @throws TriangleStatusException   если превышен лимит одновременных расчетов сводных показателей
+     */
+    public TriangleSweepAggregateData aggregate(TriangleSweepRequest request) {
+        var grid = createGrid(request);
+        if (!aggregatePermits.tryAcquire()) {
+            throw new TriangleStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Превышен лимит одновременных расчетов сводных показателей перебора, повторите запрос позже");
+        }
+        try {
+            var aggregate = new Aggregate();
+            while (grid.hasNext()) {
+                for (var result : computeBlock(grid)) {
+                    aggregate.add(result);
+                }
+            }
+            return aggregate.toAggregateData(grid.getGridSize());
+        } finally {
+            aggregatePermits.release();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private TriangleSweepResultData[] computeBlock(TriangleSweepGrid grid) {
+        var points = new TriangleDataRequest[BLOCK_SIZE];
+        int size = 0;
+        while (size < BLOCK_SIZE && grid.hasNext()) {
+            points[size++] = grid.next();
+        }
+        var results = new TriangleSweepResultData[size];
+        pool.submit(() -> Arrays.parallelSetAll(results, i -> computePoint(points[i]))).join();
+        return results;
+    }
+
+    private TriangleSweepResultData computePoint(TriangleDataRequest point) {
+        try {
+            return new TriangleSweepResultData(point, triangleComputeService.getTriangleInfoUncached(point), null);
+        } catch (TriangleValidateException e) {
+            return new TriangleSweepResultData(point, null, e.getErrors());
+        }
+    }
+
+    private TriangleSweepGrid createGrid(TriangleSweepRequest request) {
+        var parameterization = request.parameterization() == null
+                ? TriangleSweepParameterization.GRID
+                : request.parameterization();
+        List<String> errors = new ArrayList<>();
+        checkRange("sideAB", request.sideAB(), errors);
+        checkRange("sideAC", request.sideAC(), errors);
+        checkRange("angleA", request.angleA(), errors);
+        if (parameterization == TriangleSweepParameterization.GRID) {
+            checkRange("sideBC", request.sideBC(), errors);
+            checkRange("angleB", request.angleB(), errors);
+            checkRange("angleC", request.angleC(), errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new TriangleValidateException(errors);
+        }
+
+        TriangleSweepGrid grid;
+        if (parameterization == TriangleSweepParameterization.GRID) {
+            checkPoints(request.angleA().count() * request.angleB().count());
+            grid = TriangleSweepGrid.grid(request.sideAB(), request.sideBC(), request.sideAC(),
+                    request.angleA(), request.angleB(), request.angleC(), triangleInequalityRule, angleSumRule);
+        } else {
+            grid = TriangleSweepGrid.sideAngleSide(request.sideAB(), request.sideAC(), request.angleA(),
+                    triangleInequalityRule, angleSumRule);
+        }
+        checkPoints(grid.getUpperBound());
+        return grid;
+    }
+
+    private void checkRange(String field, TriangleSweepRange range, List<String> errors) {
+        if (range == null) {
+            errors.add("Нужно указать диапазон " + field);
+        } else if (range.to() < range.from()) {
+            errors.add("Конечное значение диапазона " + field + " меньше начального");
+        } else if (range.count() > maxPoints) {
+            errors.add("Слишком много значений в диапазоне " + field);
+        }
+    }
+
+    private void checkPoints(long points) {
+        if (points > maxPoints) {
+            throw new TriangleValidateException(List.of(
+                    "Слишком много точек перебора: " + points + ", допустимо не больше " + maxPoints));
+        }
+    }
+
+    /**
+     * Накопление сводных показателей перебора
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class Aggregate {
+
+        long computed;
+        long rejected;
+        double minArea = Double.POSITIVE_INFINITY;
+        double maxArea = Double.NEGATIVE_INFINITY;
+        double minPerimeter = Double.POSITIVE_INFINITY;
+        double maxPerimeter = Double.NEGATIVE_INFINITY;
+        TriangleDataRequest maxAreaTriangle;
+        final Map<TriangleAngleType, Long> angleTypes = new EnumMap<>(TriangleAngleType.class);
+        final Map<TriangleSideType, Long> sideTypes = new EnumMap<>(TriangleSideType.class);
+
+        void add(TriangleSweepResultData result) {
+            computed++;
+            var info = result.result();
+            if (info == null) {
+                rejected++;
+                return;
+            }
+            if (info.getArea() > maxArea) {
+                maxArea = info.getArea();
+                maxAreaTriangle = result.triangle();
+            }
+            minArea = Math.min(minArea, info.getArea());
+            minPerimeter = Math.min(minPerimeter, info.getPerimeter());
+            maxPerimeter = Math.max(maxPerimeter, info.getPerimeter());
+            angleTypes.merge(info.getAngleType(), 1L, Long::sum);
+            sideTypes.merge(info.getSideType(), 1L, Long::sum);
+        }
+
+        TriangleSweepAggregateData toAggregateData(long gridSize) {
+            boolean any = maxAreaTriangle != null;
+            return new TriangleSweepAggregateData(gridSize, gridSize - computed, computed, rejected,
+                    any ? minArea : null, any ? maxArea : null,
+                    any ? minPerimeter : null, any ? maxPerimeter : null,
+                    maxAreaTriangle, angleTypes, sideTypes);
+        }
+    }
+}
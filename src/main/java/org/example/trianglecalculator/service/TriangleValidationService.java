@@ -1,85 +1,191 @@
 package org.example.trianglecalculator.service;
 
-import org.example.trianglecalculator.dto.RightTypeTriangleData;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.val;
+import org.example.trianglecalculator.domain.TriangleValidationMode;
 import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleValidationRuleStatsData;
 import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.validation.TriangleValidationRule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Валидация треугольника цепочкой правил {@link TriangleValidationRule}.
+ * <p>
+ * Правила уточнения ({@link TriangleValidationRule#requiresValidTriangle()}) проверяются только после того,
+ * как выполнены все остальные правила, и до первого нарушения.
+ * В режиме {@link TriangleValidationMode#COLLECT_ALL} правила проверяются в порядке объявления и в ответ попадают
+ * все нарушения основных правил. В режиме {@link TriangleValidationMode#FAIL_FAST} проверка останавливается
+ * на первом нарушении, а порядок правил внутри основных и внутри правил уточнения периодически пересчитывается
+ * по накопленной статистике: первыми идут правила с наибольшей долей нарушений на единицу времени проверки.
+ * <p>
+ * Нарушения считаются для каждой проверки, время - для каждой {@value TIMING_SAMPLE_INTERVAL}-й валидации
+ * в потоке, чтобы вызовы {@link System#nanoTime()} не удорожали каждую проверку. Счетчик валидаций у каждого
+ * потока свой, поэтому выборка не требует общего счетчика.
+ */
 @Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class TriangleValidationService {
 
-    public static final double MEASUREMENT_ERROR = 0.1;
+    private static final int REORDER_INTERVAL = 1024;
+    private static final int TIMING_SAMPLE_INTERVAL = 64;
+
+    TriangleValidationMode mode;
+    List<RuleCounters> declaredOrder;
+    ThreadLocal<int[]> validationCounter = ThreadLocal.withInitial(() -> new int[1]);
+
+    @NonFinal
+    volatile List<RuleCounters> failFastOrder;
+
+    /**
+     * @param rules правила валидации в порядке проверки
+     * @param mode  {@link TriangleValidationMode} режим валидации
+     */
+    public TriangleValidationService(List<TriangleValidationRule> rules,
+                                     @Value("${triangle.validation.mode:COLLECT_ALL}") TriangleValidationMode mode) {
+        this.mode = mode;
+        this.declaredOrder = rules.stream().map(RuleCounters::new).toList();
+        this.failFastOrder = declaredOrder.stream()
+                .sorted(Comparator.comparing(rule -> rule.rule.requiresValidTriangle()))
+                .toList();
+    }
 
     /**
      * Проверяет параметры треугольника по критериям существования
      *
      * @param request {@link TriangleDataRequest} значения длин сторон и углов треугольника
+     * @throws TriangleValidateException если хотя бы одно правило не выполнено
      */
     public void validateTriangleDataRequest(TriangleDataRequest request) {
-        List<String> errors = new ArrayList<>();
+        val validation = ++validationCounter.get()[0];
+        val timed = validation % TIMING_SAMPLE_INTERVAL == 0;
+        if (mode == TriangleValidationMode.FAIL_FAST) {
+            if (validation % REORDER_INTERVAL == 0) {
+                reorder();
+            }
+            validateFailFast(request, timed);
+        } else {
+            validateCollectAll(request, timed);
+        }
+    }
 
-        if (!isTriangle(request)) {
-            errors.add("Одна из сторон больше суммы двух других");
+    /**
+     * Статистика правил в текущем порядке проверки
+     *
+     * @return список {@link TriangleValidationRuleStatsData}
+     */
+    public List<TriangleValidationRuleStatsData> getRuleStats() {
+        var order = mode == TriangleValidationMode.FAIL_FAST ? failFastOrder : declaredOrder;
+        List<TriangleValidationRuleStatsData> stats = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            stats.add(order.get(i).toStatsData(i));
         }
+        return stats;
+    }
 
-        if (!have180Degrees(request)) {
-            errors.add("Сумма углов треугольника не равна 180");
+    private void validateCollectAll(TriangleDataRequest request, boolean timed) {
+        List<String> errors = null;
+        for (var rule : declaredOrder) {
+            if (!rule.rule.requiresValidTriangle() && !rule.test(request, timed)) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(rule.rule.getErrorMessage());
+            }
         }
 
-        if (!errors.isEmpty()) {
+        if (errors != null) {
             throw new TriangleValidateException(errors);
         }
+        for (var rule : declaredOrder) {
+            if (rule.rule.requiresValidTriangle() && !rule.test(request, timed)) {
+                throw new TriangleValidateException(List.of(rule.rule.getErrorMessage()));
+            }
+        }
     }
 
-    /**
-     * Проверка прямоугольного треугольника по теореме Пифагора
-     *
-     * @param triangle {@link TriangleDataRequest} значения длин сторон
-     * @return соответствие прямоугольного треугольника теореме Пифагора
-     */
-    public boolean isTriangleRightByPythagoreanTheorem(RightTypeTriangleData triangle) {
-        return Math.pow(triangle.getHypotenuse(), 2) - MEASUREMENT_ERROR
-                < Math.pow(triangle.getAdjacentLeg(), 2) + Math.pow(triangle.getOppositeLeg(), 2)
-                && Math.pow(triangle.getHypotenuse(), 2) + MEASUREMENT_ERROR
-                > Math.pow(triangle.getAdjacentLeg(), 2) + Math.pow(triangle.getOppositeLeg(), 2);
+    private void validateFailFast(TriangleDataRequest request, boolean timed) {
+        for (var rule : failFastOrder) {
+            if (!rule.test(request, timed)) {
+                throw new TriangleValidateException(List.of(rule.rule.getErrorMessage()));
+            }
+        }
     }
 
     /**
-     * Проверка суммы углов в треугольнике
+     * Пересчет порядка правил для режима {@link TriangleValidationMode#FAIL_FAST}.
      *
-     * @param request {@link TriangleDataRequest} значения углов в градусах
-     * @return соответствие сумме в 180 градусов
+     * @implNote Правила упорядочиваются по убыванию величины
+     * <pre>
+     *     score = p / t
+     * </pre>
+     * где p - доля нарушений правила (со сглаживанием Лапласа), t - среднее время проверки.
+     * Такой порядок минимизирует ожидаемое время до первого нарушения для независимых правил.
+     * Правила уточнения остаются после основных. Счетчики продолжают расти во время сортировки,
+     * поэтому оценки сначала фиксируются в массиве.
      */
-    private boolean have180Degrees(TriangleDataRequest request) {
-        return request.getAngleA() + request.getAngleB() + request.getAngleC() == 180;
+    private void reorder() {
+        var current = failFastOrder;
+        var scores = new double[current.size()];
+        var positions = new Integer[current.size()];
+        for (int i = 0; i < positions.length; i++) {
+            scores[i] = current.get(i).score();
+            positions[i] = i;
+        }
+        Arrays.sort(positions, Comparator.<Integer, Boolean>comparing(i -> current.get(i).rule.requiresValidTriangle())
+                .thenComparing(i -> scores[i], Comparator.reverseOrder()));
+        failFastOrder = Arrays.stream(positions).map(current::get).toList();
     }
 
-    /**
-     * Проверка, что ни одна из сторон в треугольнике не больше суммы двух других
-     *
-     * @param request {@link TriangleDataRequest} значения длин сторон
-     * @return соответствие того, что ни одна из сторон в треугольнике не больше суммы двух других
-     */
-    private boolean isTriangle(TriangleDataRequest request) {
-        return request.getSideAB() + request.getSideAC() > request.getSideBC()
-                && request.getSideAB() + request.getSideBC() > request.getSideAC()
-                && request.getSideBC() + request.getSideAC() > request.getSideAB();
-    }
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class RuleCounters {
 
-    /**
-     * Проверка равностороннего треугольника
-     *
-     * @param request {@link TriangleDataRequest} значения длин сторон
-     * @return равенство всех сторон треугольника
-     */
-    public boolean isTriangleEquilateral(TriangleDataRequest request) {
-        return request.getAngleA() == request.getAngleB()
-                && request.getAngleB() == request.getAngleC()
-                && request.getAngleC() == request.getAngleA();
+        TriangleValidationRule rule;
+        LongAdder evaluations = new LongAdder();
+        LongAdder rejections = new LongAdder();
+        LongAdder timedEvaluations = new LongAdder();
+        LongAdder timedNanos = new LongAdder();
 
-    }
+        RuleCounters(TriangleValidationRule rule) {
+            this.rule = rule;
+        }
+
+        boolean test(TriangleDataRequest request, boolean timed) {
+            boolean satisfied;
+            if (timed) {
+                long start = System.nanoTime();
+                satisfied = rule.isSatisfied(request);
+                timedNanos.add(System.nanoTime() - start);
+                timedEvaluations.increment();
+            } else {
+                satisfied = rule.isSatisfied(request);
+            }
+            evaluations.increment();
+            if (!satisfied) {
+                rejections.increment();
+            }
+            return satisfied;
+        }
 
+        double score() {
+            double rejectionRate = (rejections.sum() + 1.0) / (evaluations.sum() + 2.0);
+            double averageNanos = (timedNanos.sum() + 1.0) / (timedEvaluations.sum() + 1.0);
+            return rejectionRate / averageNanos;
+        }
+
+        TriangleValidationRuleStatsData toStatsData(int position) {
+            long timedCount = timedEvaluations.sum();
+            return new TriangleValidationRuleStatsData(rule.getName(), position, evaluations.sum(), rejections.sum(),
+                    timedCount == 0 ? 0 : (double) timedNanos.sum() / timedCount);
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package org.example.trianglecalculator.validation;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Проверка суммы углов в треугольнике
+ */
+@Component
+@Order(200)
+public class AngleSumRule implements TriangleValidationRule {
+
+    @Override
+    public String getName() {
+        return "angleSum";
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return "Сумма углов треугольника не равна 180";
+    }
+
+    @Override
+    public boolean isSatisfied(TriangleDataRequest request) {
+        return request.getAngleA() + request.getAngleB() + request.getAngleC() == 180;
+    }
+}
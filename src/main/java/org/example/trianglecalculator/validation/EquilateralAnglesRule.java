@@ -0,0 +1,37 @@
+package org.example.trianglecalculator.validation;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Проверка равностороннего треугольника: при равенстве всех сторон должны быть равны и все углы
+ */
+@Component
+@Order(300)
+public class EquilateralAnglesRule implements TriangleValidationRule {
+
+    @Override
+    public String getName() {
+        return "equilateralAngles";
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return "углы в равностороннем треугольнике должны быть равны друг другу";
+    }
+
+    @Override
+    public boolean isSatisfied(TriangleDataRequest request) {
+        boolean equilateral = request.getSideAB() == request.getSideBC()
+                && request.getSideBC() == request.getSideAC();
+
+        return !equilateral
+                || request.getAngleA() == request.getAngleB() && request.getAngleB() == request.getAngleC();
+    }
+
+    @Override
+    public boolean requiresValidTriangle() {
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.trianglecalculator.validation;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Проверка прямоугольного треугольника по теореме Пифагора
+ */
+@Component
+@Order(400)
+public class PythagoreanTheoremRule implements TriangleValidationRule {
+
+    public static final double MEASUREMENT_ERROR = 0.1;
+    private static final int RIGHT_ANGLE_DEGREES = 90;
+
+    @Override
+    public String getName() {
+        return "pythagoreanTheorem";
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return "Сумма квадратов катетов не равна квадрату гипотенузы";
+    }
+
+    /**
+     * @implNote Гипотенуза - сторона, противолежащая прямому углу:
+     * <pre>
+     *     |c² - (a² + b²)| < MEASUREMENT_ERROR
+     * </pre>
+     * где c - длина гипотенузы, a и b - длины катетов.
+     */
+    @Override
+    public boolean isSatisfied(TriangleDataRequest request) {
+        double hypotenuse;
+        double leg1;
+        double leg2;
+        if (request.getAngleA() == RIGHT_ANGLE_DEGREES) {
+            hypotenuse = request.getSideBC();
+            leg1 = request.getSideAB();
+            leg2 = request.getSideAC();
+        } else if (request.getAngleB() == RIGHT_ANGLE_DEGREES) {
+            hypotenuse = request.getSideAC();
+            leg1 = request.getSideAB();
+            leg2 = request.getSideBC();
+        } else if (request.getAngleC() == RIGHT_ANGLE_DEGREES) {
+            hypotenuse = request.getSideAB();
+            leg1 = request.getSideBC();
+            leg2 = request.getSideAC();
+        } else {
+            return true;
+        }
+        return Math.abs(hypotenuse * hypotenuse - (leg1 * leg1 + leg2 * leg2)) < MEASUREMENT_ERROR;
+    }
+
+    @Override
+    public boolean requiresValidTriangle() {
+        return true;
+    }
+}
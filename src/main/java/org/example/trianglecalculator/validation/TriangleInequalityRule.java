@@ -0,0 +1,30 @@
+package org.example.trianglecalculator.validation;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Проверка, что ни одна из сторон в треугольнике не больше суммы двух других
+ */
+@Component
+@Order(100)
+public class TriangleInequalityRule implements TriangleValidationRule {
+
+    @Override
+    public String getName() {
+        return "triangleInequality";
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return "Одна из сторон больше суммы двух других";
+    }
+
+    @Override
+    public boolean isSatisfied(TriangleDataRequest request) {
+        return request.getSideAB() + request.getSideAC() > request.getSideBC()
+                && request.getSideAB() + request.getSideBC() > request.getSideAC()
+                && request.getSideBC() + request.getSideAC() > request.getSideAB();
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.trianglecalculator.validation;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+
+/**
+ * Правило валидации треугольника. Реализации, объявленные как Spring-бины, автоматически добавляются
+ * в цепочку {@link org.example.trianglecalculator.service.TriangleValidationService}
+ * в порядке {@link org.springframework.core.annotation.Order}.
+ */
+public interface TriangleValidationRule {
+
+    /**
+     * @return название правила в статистике валидации
+     */
+    String getName();
+
+    /**
+     * @return сообщение об ошибке, если правило не выполнено
+     */
+    String getErrorMessage();
+
+    /**
+     * Проверка треугольника. Правило, не применимое к треугольнику, считается выполненным.
+     *
+     * @param request {@link TriangleDataRequest} значения длин сторон и углов треугольника
+     * @return выполнено ли правило
+     */
+    boolean isSatisfied(TriangleDataRequest request);
+
+    /**
+     * Правило уточняет треугольник, который можно построить: проверяется, только если выполнены все правила,
+     * для которых этот метод возвращает {@code false}. Правила уточнения проверяются до первого нарушения.
+     *
+     * @return {@code true}, если правило проверяется только для построимого треугольника
+     */
+    default boolean requiresValidTriangle() {
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.trianglecalculator.validation;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Встроенные правила валидации для запуска без Spring-контекста: в режиме edge и в тестах
+ */
+public final class TriangleValidationRules {
+
+    private TriangleValidationRules() {
+    }
+
+    /**
+     * Встроенные правила в порядке {@link org.springframework.core.annotation.Order},
+     * как при внедрении списка правил в Spring
+     */
+    public static List<TriangleValidationRule> defaultRules() {
+        List<TriangleValidationRule> rules = new ArrayList<>(List.of(new TriangleInequalityRule(), new AngleSumRule(),
+                new EquilateralAnglesRule(), new PythagoreanTheoremRule()));
+        rules.sort(AnnotationAwareOrderComparator.INSTANCE);
+        return List.copyOf(rules);
+    }
+}
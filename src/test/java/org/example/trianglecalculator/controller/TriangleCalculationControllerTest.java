@@ -3,6 +3,7 @@ package org.example.trianglecalculator.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleValidationErrors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -81,6 +82,17 @@ class TriangleCalculationControllerTest {
         );
     }
 
+    @Test
+    @SneakyThrows
+    void getBadRequestWhenBodyMalformed() {
+        mockMvc.
+                perform(post("/api/v1/triangle/info")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sideAB\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]", is(TriangleValidationErrors.MALFORMED_BODY)));
+    }
+
     @Test
     @SneakyThrows
     void getRightTriangleInfo() {
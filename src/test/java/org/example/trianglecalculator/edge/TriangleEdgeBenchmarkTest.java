@@ -0,0 +1,147 @@
+package org.example.trianglecalculator.edge;
+
+import org.example.trianglecalculator.TriangleCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Сравнение режима edge с режимом Spring MVC и Tomcat: время запуска до первого успешного ответа,
+ * количество запросов в секунду под нагрузкой и резидентная память процесса (VmRSS, только Linux).
+ * Каждый режим запускается в отдельной JVM с classpath тестов.
+ * Запуск: {@code mvn test -Dbenchmark=true -Dtest=TriangleEdgeBenchmarkTest}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TriangleEdgeBenchmarkTest {
+
+    private static final String BODY =
+            "{\"sideAB\":10,\"sideBC\":5,\"sideAC\":10,\"angleA\":30,\"angleB\":75,\"angleC\":75}";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURED = Duration.ofSeconds(10);
+    private static final int CONCURRENCY = 32;
+
+    @Test
+    void edgeVersusTomcat() throws Exception {
+        int tomcatPort = freePort();
+        measure("tomcat", tomcatPort, List.of(TriangleCalculatorApplication.class.getName(),
+                "--server.port=" + tomcatPort));
+
+        int edgePort = freePort();
+        measure("edge", edgePort, List.of("-Dtriangle.edge.port=" + edgePort,
+                TriangleEdgeApplication.class.getName()));
+    }
+
+    private void measure(String mode, int port, List<String> arguments) throws Exception {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path")));
+        command.addAll(arguments);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            var client = HttpClient.newHttpClient();
+            var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + TriangleEdgeServer.INFO_PATH))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                    .build();
+
+            awaitFirstResponse(client, request, start);
+            long startupMillis = (System.nanoTime() - start) / 1_000_000;
+            long idleRss = rssKilobytes(process);
+
+            load(client, request, WARMUP);
+            long requests = load(client, request, MEASURED);
+            long loadedRss = rssKilobytes(process);
+
+            System.out.printf("mode=%s startup=%d ms rps=%.0f rss idle=%d KB rss after load=%d KB%n",
+                    mode, startupMillis, (double) requests / MEASURED.toSeconds(), idleRss, loadedRss);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitFirstResponse(HttpClient client, HttpRequest request, long start) throws InterruptedException {
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // сервер еще не слушает порт
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Сервер не ответил за " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Нагрузка из {@value CONCURRENCY} параллельных клиентов, каждый отправляет следующий запрос
+     * после получения ответа на предыдущий
+     *
+     * @return количество успешных ответов
+     */
+    private long load(HttpClient client, HttpRequest request, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        var completed = new AtomicLong();
+        var pool = Executors.newFixedThreadPool(CONCURRENCY);
+        var workers = new CompletableFuture<?>[CONCURRENCY];
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                            completed.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }, pool);
+        }
+        try {
+            CompletableFuture.allOf(workers).join();
+        } finally {
+            pool.shutdown();
+        }
+        return completed.get();
+    }
+
+    private long rssKilobytes(Process process) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
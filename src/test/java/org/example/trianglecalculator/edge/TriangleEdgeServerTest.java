@@ -0,0 +1,143 @@
+package org.example.trianglecalculator.edge;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleDataResponse;
+import org.example.trianglecalculator.dto.TriangleValidationErrors;
+import org.example.trianglecalculator.service.TriangleComputeService;
+import org.example.trianglecalculator.service.TriangleSimilarityCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleEdgeServerTest {
+
+    private final ObjectMapper objectMapper = TriangleEdgeApplication.createObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private TriangleEdgeServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        var properties = new Properties();
+        properties.setProperty("triangle.edge.port", "0");
+        properties.setProperty("triangle.edge.threads", "2");
+        server = TriangleEdgeApplication.createServer(properties);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void validTriangleMatchesComputeService() throws Exception {
+        var triangle = new TriangleDataRequest(10, 5, 10, 30, 75, 75);
+
+        var response = post(objectMapper.writeValueAsString(triangle));
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json", response.headers().firstValue("Content-Type").orElse(null));
+        var expected = new TriangleComputeService(validationService(), new TriangleSimilarityCache(false, 1e-9, 1))
+                .getTriangleInfo(triangle);
+        assertEquals(expected, objectMapper.readValue(response.body(), TriangleDataResponse.class));
+    }
+
+    @Test
+    void invalidTriangleReturnsValidationErrors() throws Exception {
+        var response = post(objectMapper.writeValueAsString(new TriangleDataRequest(1, 2, 10, 30, 75, 75)));
+
+        assertEquals(400, response.statusCode());
+        assertFalse(objectMapper.readValue(response.body(), TriangleValidationErrors.class).errors().isEmpty());
+    }
+
+    @Test
+    void nonPositiveSideReturnsFieldError() throws Exception {
+        var response = post("{\"sideAB\":-1,\"sideBC\":5,\"sideAC\":10,\"angleA\":30,\"angleB\":75,\"angleC\":75}");
+
+        assertEquals(400, response.statusCode());
+        var errors = objectMapper.readValue(response.body(), TriangleValidationErrors.class).errors();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("sideAB "), errors.get(0));
+    }
+
+    @Test
+    void malformedBodyReturnsBadRequest() throws Exception {
+        var response = post("{\"sideAB\":");
+
+        assertEquals(400, response.statusCode());
+        assertEquals(List.of(TriangleValidationErrors.MALFORMED_BODY),
+                objectMapper.readValue(response.body(), TriangleValidationErrors.class).errors());
+    }
+
+    @Test
+    void pathsUnderInfoPathAreNotFound() throws Exception {
+        var triangle = objectMapper.writeValueAsString(new TriangleDataRequest(10, 5, 10, 30, 75, 75));
+        var response = client.send(HttpRequest.newBuilder(URI.create(uri() + "/extra"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(triangle))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    void onlyPostIsAllowed() throws Exception {
+        var response = client.send(HttpRequest.newBuilder(uri()).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    void unexpectedErrorReturnsInternalServerError() throws Exception {
+        var failing = new TriangleComputeService(validationService(), new TriangleSimilarityCache(false, 1e-9, 1)) {
+            @Override
+            public TriangleDataResponse getTriangleInfo(TriangleDataRequest request) {
+                throw new IllegalStateException("сбой расчета");
+            }
+        };
+        var failingServer = new TriangleEdgeServer(failing, TriangleEdgeApplication.createAuditLog(new Properties()),
+                TriangleEdgeApplication.createValidator(), objectMapper, 0, Executors.newFixedThreadPool(1));
+        failingServer.start();
+        try {
+            var response = client.send(HttpRequest.newBuilder(
+                                    URI.create("http://localhost:" + failingServer.getPort() + TriangleEdgeServer.INFO_PATH))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    objectMapper.writeValueAsString(new TriangleDataRequest(10, 5, 10, 30, 75, 75))))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(500, response.statusCode());
+            assertEquals(1, objectMapper.readValue(response.body(), TriangleValidationErrors.class).errors().size());
+        } finally {
+            failingServer.stop();
+        }
+    }
+
+    private HttpResponse<String> post(String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri())
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri() {
+        return URI.create("http://localhost:" + server.getPort() + TriangleEdgeServer.INFO_PATH);
+    }
+}
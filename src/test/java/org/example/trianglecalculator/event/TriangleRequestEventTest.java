@@ -0,0 +1,101 @@
+package org.example.trianglecalculator.event;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.service.TriangleComputeService;
+import org.example.trianglecalculator.service.TriangleSimilarityCache;
+import org.example.trianglecalculator.service.TriangleValidationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleRequestEventTest {
+
+    private static final String REQUEST_EVENT = "org.example.trianglecalculator.TriangleRequest";
+    private static final String STAGE_EVENT = "org.example.trianglecalculator.TriangleComputeStage";
+
+    private final TriangleComputeService triangleComputeService = new TriangleComputeService(
+            validationService(), new TriangleSimilarityCache(true, 1e-9, 100));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @SneakyThrows
+    void requestAndStageEventsAreRecorded() {
+        Path file = tempDir.resolve("triangle.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TriangleRequestEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TriangleComputeStageEvent.class);
+            recording.start();
+
+            triangleComputeService.getTriangleInfo(new TriangleDataRequest(3, 5, 4, 90, 53.13, 36.87));
+            triangleComputeService.getTriangleInfo(new TriangleDataRequest(6, 10, 8, 90, 53.13, 36.87));
+            assertThrows(TriangleValidateException.class, () ->
+                    triangleComputeService.getTriangleInfo(new TriangleDataRequest(3, 6, 4, 190, 30, 45)));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> requests = events.stream()
+                .filter(event -> event.getEventType().getName().equals(REQUEST_EVENT))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+        assertEquals(3, requests.size());
+
+        RecordedEvent computed = requests.get(0);
+        assertEquals(TriangleRequestEvent.VALID, computed.getString("validationOutcome"));
+        assertEquals("SCALENE", computed.getString("sideType"));
+        assertEquals("RIGHT", computed.getString("angleType"));
+        assertTrue(computed.getBoolean("rightTriangleInfo"));
+        assertFalse(computed.getBoolean("similarityCacheHit"));
+
+        assertTrue(requests.get(1).getBoolean("similarityCacheHit"));
+
+        RecordedEvent rejected = requests.get(2);
+        assertEquals(TriangleRequestEvent.INVALID, rejected.getString("validationOutcome"));
+        assertTrue(rejected.getString("validationErrors").contains("Сумма углов треугольника не равна 180"));
+
+        Set<String> stages = events.stream()
+                .filter(event -> event.getEventType().getName().equals(STAGE_EVENT))
+                .map(event -> event.getString("stage"))
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("area", "perimeter", "rightTriangleInfo", "medians", "bisectors", "heights",
+                "inscribedCircle", "circumscribedCircle"), stages);
+    }
+
+    @Test
+    @SneakyThrows
+    void stageEventsAreDisabledByDefault() {
+        Path file = tempDir.resolve("default.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TriangleRequestEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            triangleComputeService.getTriangleInfo(new TriangleDataRequest(5, 5, 5, 60, 60, 60));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> recorded = RecordingFile.readAllEvents(file).stream()
+                .map(event -> event.getEventType().getName())
+                .filter(name -> name.startsWith("org.example.trianglecalculator"))
+                .toList();
+        assertEquals(List.of(REQUEST_EVENT), recorded);
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleAuditOverflowPolicy;
+import org.example.trianglecalculator.domain.TriangleSideType;
+import org.example.trianglecalculator.dto.TriangleAuditRecord;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleDataResponse;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleAuditLogTest {
+
+    private static final TriangleDataRequest ISOSCELES = new TriangleDataRequest(10, 5, 10, 30, 75, 75);
+    private static final TriangleDataRequest INVALID = new TriangleDataRequest(1, 2, 10, 30, 75, 75);
+
+    private final TriangleComputeService computeService = new TriangleComputeService(
+            validationService(), new TriangleSimilarityCache(false, 1e-9, 1));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void requestsAreWrittenWithOutcomeAndTiming() throws IOException {
+        var log = createLog(1024, TriangleAuditOverflowPolicy.DROP, 64_000_000, 20);
+
+        var response = log.audit(ISOSCELES, () -> computeService.getTriangleInfo(ISOSCELES));
+        assertThrows(TriangleValidateException.class,
+                () -> log.audit(INVALID, () -> computeService.getTriangleInfo(INVALID)));
+        log.auditRejected(ISOSCELES, List.of("sideAB должно быть больше 0"));
+        log.close();
+
+        List<TriangleAuditRecord> records = readAll();
+        assertEquals(3, records.size());
+
+        var computed = records.get(0);
+        assertFalse(computed.isRejected());
+        assertEquals(ISOSCELES.getSideAB(), computed.sideAB());
+        assertEquals(ISOSCELES.getAngleC(), computed.angleC());
+        assertEquals(response.getArea(), (double) computed.area());
+        assertEquals(response.getPerimeter(), (double) computed.perimeter());
+        assertEquals(TriangleSideType.ISOSCELES, computed.sideType());
+        assertEquals(response.getAngleType(), computed.angleType());
+        assertTrue(computed.durationNanos() > 0);
+
+        var invalid = records.get(1);
+        assertTrue(invalid.isRejected());
+        assertNull(invalid.area());
+        assertFalse(invalid.errors().isEmpty());
+
+        assertEquals(List.of("sideAB должно быть больше 0"), records.get(2).errors());
+        assertEquals(0, records.get(2).durationNanos());
+
+        var stats = log.getStats();
+        assertEquals(3, stats.recorded());
+        assertEquals(3, stats.written());
+        assertEquals(0, stats.dropped());
+    }
+
+    @Test
+    void filesRotateAndOldestAreDeleted() throws IOException {
+        var log = new TriangleAuditLog(true, directory, 1024, TriangleAuditOverflowPolicy.BLOCK, 1, 1, 200, 3);
+
+        for (int i = 0; i < 20; i++) {
+            log.audit(ISOSCELES, () -> computeService.getTriangleInfo(ISOSCELES));
+        }
+        log.close();
+
+        List<Path> files = listFiles();
+        assertEquals(3, files.size());
+        assertEquals(log.getStats().currentFile(), files.get(2).toString());
+        for (Path file : files) {
+            assertTrue(Files.size(file) <= 200, file + " " + Files.size(file));
+        }
+        assertEquals(20, log.getStats().written());
+        assertEquals(2, TriangleAuditFormat.readFile(files.get(2)).size());
+    }
+
+    @Test
+    void dropPolicyNeverBlocksAndCountsDrops() throws Exception {
+        var log = createLog(1, TriangleAuditOverflowPolicy.DROP, 64_000_000, 20);
+        // поток записи засыпает на интервал сброса 10 с, пока буфер пуст
+        Thread.sleep(200);
+
+        for (int i = 0; i < 1000; i++) {
+            log.auditRejected(INVALID, List.of("ошибка"));
+        }
+        var stats = log.getStats();
+        assertEquals(1000, stats.recorded() + stats.dropped());
+        assertTrue(stats.dropped() > 0);
+
+        log.close();
+        assertEquals(stats.recorded(), log.getStats().written());
+        assertEquals(stats.recorded(), readAll().size());
+    }
+
+    @Test
+    void blockPolicyKeepsEveryRecordUnderConcurrentLoad() throws IOException {
+        var log = createLog(16, TriangleAuditOverflowPolicy.BLOCK, 64_000_000, 20);
+        var pool = Executors.newFixedThreadPool(8);
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                        .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+                            for (int i = 0; i < 5_000; i++) {
+                                log.audit(ISOSCELES, () -> computeService.getTriangleInfo(ISOSCELES));
+                            }
+                        }, pool))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+        pool.shutdown();
+        log.close();
+
+        var stats = log.getStats();
+        assertEquals(40_000, stats.recorded());
+        assertEquals(0, stats.dropped());
+        assertEquals(40_000, stats.written());
+        assertEquals(40_000, readAll().size());
+    }
+
+    @Test
+    void failingRecordsAreCountedAndWriterKeepsDraining() throws Exception {
+        var log = new TriangleAuditLog(true, directory, 2, TriangleAuditOverflowPolicy.BLOCK, 1, 10_000,
+                64_000_000, 20);
+        // без типа по углам рассчитанная запись не кодируется в TriangleAuditFormat
+        var broken = TriangleDataResponse.builder().area(1).perimeter(3).sideType(TriangleSideType.SCALENE).build();
+
+        CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 10; i++) {
+                log.audit(ISOSCELES, () -> broken);
+            }
+            for (int i = 0; i < 10; i++) {
+                log.audit(ISOSCELES, () -> computeService.getTriangleInfo(ISOSCELES));
+            }
+        }).get(10, TimeUnit.SECONDS);
+        log.close();
+
+        var stats = log.getStats();
+        assertEquals(20, stats.recorded());
+        assertEquals(10, stats.failed());
+        assertEquals(10, stats.written());
+        assertEquals(10, readAll().size());
+    }
+
+    @Test
+    void onlyFailingRecordIsDroppedFromBatch() throws IOException {
+        var log = createLog(1024, TriangleAuditOverflowPolicy.DROP, 64_000_000, 20);
+        var broken = TriangleDataResponse.builder().area(1).perimeter(3).sideType(TriangleSideType.SCALENE).build();
+
+        log.audit(ISOSCELES, () -> computeService.getTriangleInfo(ISOSCELES));
+        log.audit(ISOSCELES, () -> broken);
+        log.auditRejected(INVALID, List.of());
+        log.audit(ISOSCELES, () -> computeService.getTriangleInfo(ISOSCELES));
+        log.close();
+
+        var stats = log.getStats();
+        assertEquals(1, stats.failed());
+        assertEquals(3, stats.written());
+        List<TriangleAuditRecord> records = readAll();
+        assertEquals(3, records.size());
+        assertTrue(records.get(1).isRejected());
+        assertTrue(records.get(1).errors().isEmpty());
+    }
+
+    @Test
+    void longErrorsAreTruncatedOnCodePointBoundary() {
+        String error = "a".repeat(16_383) + "\uD83D\uDCD0" + "b";
+
+        String truncated = TriangleAuditFormat.truncate(error);
+
+        assertEquals(16_383, truncated.length());
+        assertFalse(Character.isHighSurrogate(truncated.charAt(truncated.length() - 1)));
+        assertEquals("abc", TriangleAuditFormat.truncate("abc"));
+    }
+
+    @Test
+    void ringBufferIsBoundedAndFifo() {
+        var buffer = new TriangleAuditRingBuffer<Integer>(3);
+
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(Integer.valueOf(0), buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        var batch = new Integer[8];
+        assertEquals(4, buffer.drainTo(batch));
+        assertEquals(List.of(1, 2, 3, 4), Arrays.asList(batch).subList(0, 4));
+        assertNull(buffer.poll());
+    }
+
+    private TriangleAuditLog createLog(int capacity, TriangleAuditOverflowPolicy policy, long maxFileSize,
+                                       int maxFiles) {
+        return new TriangleAuditLog(true, directory, capacity, policy, 1024, 10_000, maxFileSize, maxFiles);
+    }
+
+    private List<TriangleAuditRecord> readAll() throws IOException {
+        List<TriangleAuditRecord> records = new ArrayList<>();
+        for (Path file : listFiles()) {
+            records.addAll(TriangleAuditFormat.readFile(file));
+        }
+        return records;
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
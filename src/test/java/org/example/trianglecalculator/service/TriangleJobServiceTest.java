@@ -0,0 +1,207 @@
+package org.example.trianglecalculator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.example.trianglecalculator.domain.TriangleJobStatus;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleJobData;
+import org.example.trianglecalculator.dto.TriangleJobResultData;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleJobServiceTest {
+
+    private static final TriangleDataRequest VALID = new TriangleDataRequest(3, 5, 4, 90, 53.13, 36.87);
+    private static final TriangleDataRequest INVALID = new TriangleDataRequest(3, 6, 4, 190, 30, 45);
+
+    @TempDir
+    Path spillDirectory;
+
+    private TriangleJobScheduler scheduler;
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void resultsAreSpilledToDiskOverMemoryBudget() {
+        TriangleJobResultStore store = new TriangleJobResultStore(new ObjectMapper(), 1500, spillDirectory);
+        TriangleJobService service = createService(store, 10_000, 1000);
+
+        List<TriangleDataRequest> requests = new ArrayList<>();
+        IntStream.range(0, 2500).forEach(i -> requests.add(i % 10 == 0 ? INVALID : VALID));
+        TriangleJobData job = awaitCompletion(service, service.submit(requests).id());
+
+        assertEquals(TriangleJobStatus.COMPLETED, job.status());
+        assertEquals(2500, job.processed());
+        assertEquals(250, job.failed());
+        assertEquals(3, job.chunkCount());
+
+        List<TriangleJobResultData> results = new ArrayList<>();
+        for (int chunk = 0; chunk < job.chunkCount(); chunk++) {
+            results.addAll(service.getResults(job.id(), chunk));
+        }
+        assertEquals(IntStream.range(0, 2500).boxed().toList(), results.stream().map(TriangleJobResultData::index).toList());
+        assertNotNull(results.get(1).result());
+        assertNotNull(results.get(10).errors());
+        assertTrue(store.getResultsInMemory() <= 1500);
+
+        service.cancel(job.id());
+        assertEquals(0, store.getResultsInMemory());
+        assertEquals(0, scheduler.getQueuedRequests());
+    }
+
+    @Test
+    void jobsOverQueueLimitAreRejected() {
+        TriangleJobService service = createService(
+                new TriangleJobResultStore(new ObjectMapper(), 1000, spillDirectory), 100, 10);
+
+        TriangleStatusException e = assertThrows(TriangleStatusException.class,
+                () -> service.submit(IntStream.range(0, 101).mapToObj(i -> VALID).toList()));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatus());
+    }
+
+    @Test
+    void cancelledJobReleasesQueue() {
+        TriangleJobService service = createService(
+                new TriangleJobResultStore(new ObjectMapper(), 1000, spillDirectory), 1_000_000, 100);
+
+        String id = service.submit(IntStream.range(0, 200_000).mapToObj(i -> VALID).toList()).id();
+        TriangleJobData cancelled = service.cancel(id);
+
+        assertEquals(TriangleJobStatus.CANCELLED, cancelled.status());
+        assertThrows(TriangleStatusException.class, () -> service.getJob(id));
+        awaitEmptyQueue();
+    }
+
+    @Test
+    @SneakyThrows
+    void spillFailureFailsJobAndReleasesResults() {
+        Path notADirectory = Files.createFile(spillDirectory.resolve("spill"));
+        TriangleJobResultStore store = new TriangleJobResultStore(new ObjectMapper(), 1000, notADirectory);
+        TriangleJobService service = createService(store, 10_000, 1000);
+
+        TriangleJobData job = awaitCompletion(service,
+                service.submit(IntStream.range(0, 5000).mapToObj(i -> VALID).toList()).id());
+
+        assertEquals(TriangleJobStatus.FAILED, job.status());
+        assertNotNull(job.error());
+        assertEquals(0, store.getResultsInMemory());
+        awaitEmptyQueue();
+        TriangleStatusException e = assertThrows(TriangleStatusException.class, () -> service.getResults(job.id(), 0));
+        assertEquals(HttpStatus.CONFLICT, e.getStatus());
+    }
+
+    @Test
+    void expiredJobsAreEvictedWithResults() {
+        TriangleJobResultStore store = new TriangleJobResultStore(new ObjectMapper(), 100, spillDirectory);
+        TriangleJobService service = createService(store, 10_000, 100, 0);
+
+        String completed = awaitCompletion(service,
+                service.submit(IntStream.range(0, 300).mapToObj(i -> VALID).toList()).id()).id();
+        assertTrue(Files.exists(spillDirectory.resolve(completed)));
+
+        service.evictExpiredJobs();
+
+        assertThrows(TriangleStatusException.class, () -> service.getJob(completed));
+        assertEquals(0, store.getResultsInMemory());
+        assertFalse(Files.exists(spillDirectory.resolve(completed)));
+    }
+
+    @Test
+    void unexpiredJobsAreKept() {
+        TriangleJobService service = createService(
+                new TriangleJobResultStore(new ObjectMapper(), 1000, spillDirectory), 10_000, 100);
+
+        String id = awaitCompletion(service, service.submit(List.of(VALID)).id()).id();
+        service.evictExpiredJobs();
+
+        assertEquals(TriangleJobStatus.COMPLETED, service.getJob(id).status());
+    }
+
+    @Test
+    void jobsBypassSimilarityCache() {
+        TriangleSimilarityCache cache = new TriangleSimilarityCache(true, 1e-9, 100);
+        TriangleJobService service = createService(
+                new TriangleJobResultStore(new ObjectMapper(), 1000, spillDirectory), 10_000, 100, 3600, cache);
+
+        TriangleJobData job = awaitCompletion(service,
+                service.submit(IntStream.range(0, 500).mapToObj(i -> VALID).toList()).id());
+
+        assertEquals(TriangleJobStatus.COMPLETED, job.status());
+        assertEquals(0, job.failed());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    @SneakyThrows
+    void shutdownDeletesOnlyJobDirectories() {
+        Path foreign = Files.createFile(spillDirectory.resolve("foreign.txt"));
+        TriangleJobResultStore store = new TriangleJobResultStore(new ObjectMapper(), 100, spillDirectory);
+        TriangleJobService service = createService(store, 10_000, 100);
+
+        String id = awaitCompletion(service,
+                service.submit(IntStream.range(0, 300).mapToObj(i -> VALID).toList()).id()).id();
+        assertTrue(Files.exists(spillDirectory.resolve(id)));
+
+        store.deleteJobDirectories();
+
+        assertFalse(Files.exists(spillDirectory.resolve(id)));
+        assertTrue(Files.exists(foreign));
+        assertTrue(Files.exists(spillDirectory));
+    }
+
+    private TriangleJobService createService(TriangleJobResultStore store, long maxQueuedRequests, int chunkSize) {
+        return createService(store, maxQueuedRequests, chunkSize, 3600);
+    }
+
+    private TriangleJobService createService(TriangleJobResultStore store, long maxQueuedRequests, int chunkSize,
+                                             long resultTtlSeconds) {
+        return createService(store, maxQueuedRequests, chunkSize, resultTtlSeconds,
+                new TriangleSimilarityCache(false, 1e-9, 1));
+    }
+
+    private TriangleJobService createService(TriangleJobResultStore store, long maxQueuedRequests, int chunkSize,
+                                             long resultTtlSeconds, TriangleSimilarityCache cache) {
+        TriangleComputeService computeService = new TriangleComputeService(validationService(), cache);
+        scheduler = new TriangleJobScheduler(computeService, store, maxQueuedRequests, 4);
+        return new TriangleJobService(scheduler, store, chunkSize, resultTtlSeconds);
+    }
+
+    /**
+     * Ожидание завершения задачи: обработки или ошибки
+     */
+    @SneakyThrows
+    private TriangleJobData awaitCompletion(TriangleJobService service, String id) {
+        for (int i = 0; i < 1000; i++) {
+            TriangleJobData job = service.getJob(id);
+            if (job.status() == TriangleJobStatus.COMPLETED || job.status() == TriangleJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Задача не завершилась");
+    }
+
+    @SneakyThrows
+    private void awaitEmptyQueue() {
+        for (int i = 0; i < 1000 && scheduler.getQueuedRequests() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, scheduler.getQueuedRequests());
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.dto.TrianglePolygonRequest;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrianglePolygonServiceTest {
+
+    private static final List<double[]> SQUARE = List.of(
+            new double[]{0, 0}, new double[]{10, 0}, new double[]{10, 10}, new double[]{0, 10});
+    private static final List<double[]> SQUARE_HOLE = List.of(
+            new double[]{4, 4}, new double[]{6, 4}, new double[]{6, 6}, new double[]{4, 6});
+
+    private final TrianglePolygonService service = new TrianglePolygonService(new TriangleComputeService(
+            validationService(), new TriangleSimilarityCache(false, 1e-9, 1)), 1_000_000);
+
+    @Test
+    void squareWithHole() {
+        var polygon = service.triangulate(new TrianglePolygonRequest(SQUARE, List.of(SQUARE_HOLE), true));
+
+        assertEquals(8, polygon.triangleCount());
+        assertEquals(0, polygon.degenerateCount());
+        assertEquals(96, polygon.area(), 1e-9);
+        assertEquals(48, polygon.perimeter(), 1e-9);
+        assertEquals(8, polygon.triangles().size());
+        assertTrue(polygon.triangles().stream().allMatch(triangle -> triangle.result().getAngleType() != null));
+    }
+
+    @Test
+    void largeConcavePolygonAreaIsPreserved() {
+        int vertices = 200_000;
+        Random random = new Random(7);
+        List<double[]> outline = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double radius = 1000 + (i % 2 == 0 ? 0 : -0.05) + random.nextDouble() * 0.01;
+            outline.add(new double[]{radius * Math.cos(angle), radius * Math.sin(angle)});
+        }
+
+        var polygon = service.triangulate(new TrianglePolygonRequest(outline, null, false));
+
+        assertEquals(vertices - 2, polygon.triangleCount());
+        assertEquals(shoelaceArea(outline), polygon.area(), 1e-6 * polygon.area());
+        assertNull(polygon.triangles());
+        assertNotNull(polygon.worstAspectTriangle());
+        assertTrue(polygon.worstAspectTriangle().aspectRatio() >= 1);
+    }
+
+    @Test
+    void triangulationBypassesSimilarityCache() {
+        var cache = new TriangleSimilarityCache(true, 1e-9, 100);
+        var cached = new TrianglePolygonService(new TriangleComputeService(validationService(), cache), 1_000_000);
+
+        var polygon = cached.triangulate(new TrianglePolygonRequest(SQUARE, List.of(SQUARE_HOLE), true));
+
+        assertEquals(8, polygon.triangleCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidVerticesAreRejected() {
+        List<double[]> outline = List.of(new double[]{0, 0}, new double[]{1}, new double[]{1, Double.NaN});
+
+        var e = assertThrows(TriangleValidateException.class,
+                () -> service.triangulate(new TrianglePolygonRequest(outline, null, false)));
+
+        assertEquals(2, e.getErrors().size());
+    }
+
+    @Test
+    void polygonsOverVertexLimitAreRejected() {
+        var limited = new TrianglePolygonService(new TriangleComputeService(
+                validationService(), new TriangleSimilarityCache(false, 1e-9, 1)), 7);
+
+        assertThrows(TriangleValidateException.class,
+                () -> limited.triangulate(new TrianglePolygonRequest(SQUARE, List.of(SQUARE_HOLE), false)));
+    }
+
+    private double shoelaceArea(List<double[]> ring) {
+        double sum = 0;
+        for (int i = 0, j = ring.size() - 1; i < ring.size(); j = i++) {
+            sum += ring.get(j)[0] * ring.get(i)[1] - ring.get(i)[0] * ring.get(j)[1];
+        }
+        return Math.abs(sum) / 2;
+    }
+}
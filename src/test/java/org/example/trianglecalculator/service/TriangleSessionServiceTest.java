@@ -0,0 +1,124 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleDataResponse;
+import org.example.trianglecalculator.exception.TriangleStatusException;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleSessionServiceTest {
+
+    private static final TriangleDataRequest ISOSCELES = new TriangleDataRequest(10, 5, 10, 30, 75, 75);
+
+    private final TriangleComputeService computeService = new TriangleComputeService(
+            validationService(), new TriangleSimilarityCache(false, 1e-9, 1));
+
+    @Test
+    void openedSessionMatchesFullComputation() {
+        var service = createService(600, 10);
+
+        var session = service.open(ISOSCELES);
+
+        assertEquals(computeService.getTriangleInfo(ISOSCELES), session.triangleInfo());
+    }
+
+    @Test
+    void angleChangeRecomputesOnlyDependentOutputs() {
+        var service = createService(600, 10);
+        var id = service.open(ISOSCELES).id();
+
+        var update = service.update(id, Map.of("angleB", 70.0, "angleC", 80.0));
+
+        assertEquals(Set.of("bisectors.bisectorB", "bisectors.bisectorC"), update.changed().keySet());
+    }
+
+    @Test
+    void sideChangeMatchesFullComputation() {
+        var service = createService(600, 10);
+        var id = service.open(ISOSCELES).id();
+
+        var update = service.update(id, Map.of("sideAB", 9.0));
+
+        var changed = update.changed().keySet();
+        assertTrue(changed.containsAll(Set.of("area", "perimeter", "sideType", "heights.heightC")));
+        assertFalse(changed.contains("bisectors.bisectorA"));
+        assertFalse(changed.contains("angleType"));
+
+        TriangleDataResponse expected = computeService.getTriangleInfo(new TriangleDataRequest(9, 5, 10, 30, 75, 75));
+        assertEquals(expected, service.getSession(id).triangleInfo());
+        assertEquals(expected.getArea(), (double) update.changed().get("area"));
+    }
+
+    @Test
+    void invalidChangeKeepsSessionState() {
+        var service = createService(600, 10);
+        var id = service.open(ISOSCELES).id();
+
+        assertThrows(TriangleValidateException.class, () -> service.update(id, Map.of("angleA", 40.0)));
+        var e = assertThrows(TriangleValidateException.class, () -> service.update(id, Map.of("sideAD", 4.0)));
+
+        assertEquals(1, e.getErrors().size());
+        assertEquals(ISOSCELES, service.getSession(id).triangle());
+    }
+
+    @Test
+    void idleSessionsAreEvicted() {
+        var service = createService(0, 10);
+        var id = service.open(ISOSCELES).id();
+
+        service.evictIdleSessions();
+
+        assertThrows(TriangleStatusException.class, () -> service.getSession(id));
+    }
+
+    @Test
+    void leastRecentlyUsedSessionIsEvictedOverLimit() {
+        var service = createService(600, 2);
+        var first = service.open(ISOSCELES).id();
+        var second = service.open(ISOSCELES).id();
+        service.getSession(first);
+
+        service.open(ISOSCELES);
+
+        assertEquals(2, service.getSessionCount());
+        assertNotNull(service.getSession(first));
+        assertThrows(TriangleStatusException.class, () -> service.getSession(second));
+    }
+
+    @Test
+    void concurrentOpensNeverExceedLimit() {
+        var service = createService(600, 10);
+        var pool = Executors.newFixedThreadPool(8);
+        var overLimit = new AtomicBoolean();
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                        .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                            for (int i = 0; i < 500; i++) {
+                                service.open(ISOSCELES);
+                                if (service.getSessionCount() > 10) {
+                                    overLimit.set(true);
+                                }
+                            }
+                        }, pool))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+        pool.shutdown();
+
+        assertFalse(overLimit.get());
+        assertEquals(10, service.getSessionCount());
+    }
+
+    private TriangleSessionService createService(long idleTimeoutSeconds, int maxSessions) {
+        return new TriangleSessionService(computeService, validationService(), idleTimeoutSeconds, maxSessions);
+    }
+}
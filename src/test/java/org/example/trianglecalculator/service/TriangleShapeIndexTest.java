@@ -0,0 +1,102 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleShapeDescriptor;
+import org.example.trianglecalculator.dto.RegisteredTriangleData;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleShapeMatchData;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TriangleShapeIndexTest {
+
+    private final Random random = new Random(7);
+
+    @Test
+    void nearestMatchesBruteForce() {
+        List<RegisteredTriangleData> triangles = randomTriangles(20_000);
+        TriangleShapeIndex index = new TriangleShapeIndex(64);
+        index.addAll(triangles.subList(0, 10_000));
+        triangles.subList(10_000, triangles.size()).forEach(index::add);
+
+        for (int i = 0; i < 100; i++) {
+            TriangleShapeDescriptor query = TriangleShapeDescriptor.of(randomTriangle());
+
+            List<TriangleShapeMatchData> actual = index.nearest(query, 5);
+            List<Double> expected = triangles.stream()
+                    .map(triangle -> query.distanceTo(TriangleShapeDescriptor.of(triangle.triangle())))
+                    .sorted()
+                    .limit(5)
+                    .toList();
+
+            assertEquals(expected, actual.stream().map(TriangleShapeMatchData::distance).toList());
+        }
+    }
+
+    @Test
+    void withinRadiusMatchesBruteForce() {
+        List<RegisteredTriangleData> triangles = randomTriangles(20_000);
+        TriangleShapeIndex index = new TriangleShapeIndex(64);
+        index.addAll(triangles);
+
+        TriangleShapeDescriptor query = TriangleShapeDescriptor.of(randomTriangle());
+        List<String> expected = triangles.stream()
+                .filter(triangle -> query.distanceTo(TriangleShapeDescriptor.of(triangle.triangle())) <= 0.05)
+                .sorted(Comparator.comparingDouble(triangle -> query.distanceTo(TriangleShapeDescriptor.of(triangle.triangle()))))
+                .map(RegisteredTriangleData::id)
+                .toList();
+
+        assertEquals(expected, index.withinRadius(query, 0.05, Integer.MAX_VALUE).stream().map(TriangleShapeMatchData::id).toList());
+    }
+
+    @Test
+    void withinRadiusOverMatchLimitIsRejected() {
+        var service = new TriangleShapeIndexService(validationService(), 16);
+        var equilateral = new TriangleDataRequest(5, 5, 5, 60, 60, 60);
+        List<RegisteredTriangleData> triangles = new ArrayList<>();
+        for (int i = 0; i <= TriangleShapeIndexService.MAX_NEAREST; i++) {
+            triangles.add(new RegisteredTriangleData("e" + i, equilateral));
+        }
+        service.registerAll(triangles.subList(0, TriangleShapeIndexService.MAX_NEAREST));
+
+        assertEquals(TriangleShapeIndexService.MAX_NEAREST, service.findWithinRadius(equilateral, 0.01).size());
+
+        service.register(triangles.get(TriangleShapeIndexService.MAX_NEAREST));
+        assertThrows(TriangleValidateException.class, () -> service.findWithinRadius(equilateral, 0.01));
+    }
+
+    @Test
+    void similarTrianglesHaveZeroDistance() {
+        TriangleShapeIndex index = new TriangleShapeIndex(16);
+        index.add(new RegisteredTriangleData("small", new TriangleDataRequest(3, 5, 4, 90, 53.13, 36.87)));
+
+        List<TriangleShapeMatchData> matches =
+                index.nearest(TriangleShapeDescriptor.of(new TriangleDataRequest(50, 30, 40, 36.87, 90, 53.13)), 1);
+
+        assertEquals("small", matches.get(0).id());
+        assertEquals(0, matches.get(0).distance(), 1e-12);
+    }
+
+    private List<RegisteredTriangleData> randomTriangles(int count) {
+        List<RegisteredTriangleData> triangles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            triangles.add(new RegisteredTriangleData("t" + i, randomTriangle()));
+        }
+        return triangles;
+    }
+
+    private TriangleDataRequest randomTriangle() {
+        double a = 1 + random.nextDouble() * 10;
+        double b = 1 + random.nextDouble() * 10;
+        double c = Math.abs(a - b) + random.nextDouble() * (a + b - Math.abs(a - b));
+        return new TriangleDataRequest(a, b, c, 60, 60, 60);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+
+/**
+ * Сравнение расчета с кэшем подобия и без него на наборе одинаковых форм в разных масштабах.
+ * Запуск: {@code mvn test -Dbenchmark=true -Dtest=TriangleSimilarityCacheBenchmarkTest}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TriangleSimilarityCacheBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    void scaleVariedWorkload() {
+        List<TriangleDataRequest> workload = scaleVariedWorkload(100_000);
+
+        TriangleComputeService uncached = new TriangleComputeService(validationService(),
+                new TriangleSimilarityCache(false, 1e-9, 10_000));
+        TriangleSimilarityCache cache = new TriangleSimilarityCache(true, 1e-9, 10_000);
+        TriangleComputeService cached = new TriangleComputeService(validationService(), cache);
+
+        long uncachedNanos = measure(uncached, workload);
+        long cachedNanos = measure(cached, workload);
+
+        System.out.printf("requests=%d uncached=%.1f ns/op cached=%.1f ns/op hits=%d misses=%d%n",
+                workload.size(),
+                (double) uncachedNanos / workload.size(),
+                (double) cachedNanos / workload.size(),
+                cache.getHitCount(), cache.getMissCount());
+    }
+
+    /**
+     * Расчет с кэшем подобия из нескольких потоков одновременно: при общей блокировке чтений
+     * время на запрос растет с количеством потоков, без нее - остается близким к однопоточному
+     */
+    @Test
+    void concurrentScaleVariedWorkload() throws Exception {
+        List<TriangleDataRequest> workload = scaleVariedWorkload(100_000);
+        int threads = Runtime.getRuntime().availableProcessors();
+        TriangleSimilarityCache cache = new TriangleSimilarityCache(true, 1e-9, 10_000);
+        TriangleComputeService cached = new TriangleComputeService(validationService(), cache);
+
+        long singleNanos = measure(cached, workload);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long concurrentNanos = measureConcurrent(pool, threads, cached, workload);
+            System.out.printf("requests=%d threads=%d single=%.1f ns/op concurrent=%.1f ns/op per thread%n",
+                    workload.size(), threads,
+                    (double) singleNanos / workload.size(),
+                    (double) concurrentNanos / workload.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Набор из нескольких форм (остроугольная, тупоугольная, прямоугольная, равносторонняя),
+     * каждая из которых повторяется со случайным коэффициентом подобия
+     */
+    private List<TriangleDataRequest> scaleVariedWorkload(int size) {
+        List<TriangleDataRequest> shapes = List.of(
+                new TriangleDataRequest(10, 5, 10, 30, 75, 75),
+                new TriangleDataRequest(14.14, 19.32, 10, 105, 30, 45),
+                new TriangleDataRequest(3, 5, 4, 90, 53.13, 36.87),
+                new TriangleDataRequest(5, 5, 5, 60, 60, 60)
+        );
+        Random random = new Random(42);
+        List<TriangleDataRequest> workload = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TriangleDataRequest shape = shapes.get(i % shapes.size());
+            double k = Math.pow(2, random.nextInt(20) - 10);
+            workload.add(new TriangleDataRequest(shape.getSideAB() * k, shape.getSideBC() * k, shape.getSideAC() * k,
+                    shape.getAngleA(), shape.getAngleB(), shape.getAngleC()));
+        }
+        return workload;
+    }
+
+    private long measure(TriangleComputeService service, List<TriangleDataRequest> workload) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(service, workload);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            run(service, workload);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Лучшее время прохода набора, когда каждый из {@code threads} потоков одновременно проходит его целиком
+     */
+    private long measureConcurrent(ExecutorService pool, int threads, TriangleComputeService service,
+                                   List<TriangleDataRequest> workload) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < WARMUP_ROUNDS + MEASURED_ROUNDS; i++) {
+            List<Callable<Double>> tasks = Collections.nCopies(threads, () -> run(service, workload));
+            long start = System.nanoTime();
+            for (Future<Double> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+            if (i >= WARMUP_ROUNDS) {
+                best = Math.min(best, System.nanoTime() - start);
+            }
+        }
+        return best;
+    }
+
+    private double run(TriangleComputeService service, List<TriangleDataRequest> workload) {
+        double checksum = 0;
+        for (TriangleDataRequest request : workload) {
+            checksum += service.getTriangleInfo(request).getArea();
+        }
+        return checksum;
+    }
+}
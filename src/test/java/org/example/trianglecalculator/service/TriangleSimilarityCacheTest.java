@@ -0,0 +1,113 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleSideType;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleDataResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleSimilarityCacheTest {
+
+    private static final double EPS = 1e-9;
+
+    private final TriangleSimilarityCache cache = new TriangleSimilarityCache(true, 1e-9, 100);
+    private final TriangleComputeService cachedService =
+            new TriangleComputeService(validationService(), cache);
+    private final TriangleComputeService uncachedService =
+            new TriangleComputeService(validationService(), new TriangleSimilarityCache(false, 1e-9, 100));
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.001, 0.5, 2, 37.5, 1e6})
+    void scaledTriangleIsServedFromCache(double k) {
+        cachedService.getTriangleInfo(new TriangleDataRequest(14.14, 19.32, 10, 105, 30, 45));
+        TriangleDataRequest scaled = new TriangleDataRequest(14.14 * k, 19.32 * k, 10 * k, 105, 30, 45);
+
+        TriangleDataResponse cached = cachedService.getTriangleInfo(scaled);
+        TriangleDataResponse computed = uncachedService.getTriangleInfo(scaled);
+
+        assertEquals(1, cache.getHitCount());
+        assertSimilar(computed, cached);
+    }
+
+    @Test
+    void rightTriangleTrigonometryIsNotScaled() {
+        cachedService.getTriangleInfo(new TriangleDataRequest(3, 5, 4, 90, 53.13, 36.87));
+        TriangleDataRequest scaled = new TriangleDataRequest(30, 50, 40, 90, 53.13, 36.87);
+
+        TriangleDataResponse cached = cachedService.getTriangleInfo(scaled);
+        TriangleDataResponse computed = uncachedService.getTriangleInfo(scaled);
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(computed.getRightTriangleInfo().getHypotenuse(), cached.getRightTriangleInfo().getHypotenuse(), EPS);
+        assertEquals(computed.getRightTriangleInfo().getSinDegrees(), cached.getRightTriangleInfo().getSinDegrees(), EPS);
+        assertEquals(computed.getRightTriangleInfo().getTgRadians(), cached.getRightTriangleInfo().getTgRadians(), EPS);
+    }
+
+    @Test
+    void shapesOutsideToleranceAreComputedSeparately() {
+        TriangleSimilarityCache coarseCache = new TriangleSimilarityCache(true, 1e-3, 100);
+        TriangleComputeService service = new TriangleComputeService(validationService(), coarseCache);
+
+        service.getTriangleInfo(new TriangleDataRequest(14.14, 19.32, 10, 105, 30, 45));
+        service.getTriangleInfo(new TriangleDataRequest(14.14, 19.32, 10.0001, 105, 30, 45));
+        assertEquals(1, coarseCache.getHitCount());
+
+        service.getTriangleInfo(new TriangleDataRequest(14.14, 19.32, 10.1, 105, 30, 45));
+        assertEquals(2, coarseCache.getMissCount());
+    }
+
+    @Test
+    void differentAnglesAreNotSimilar() {
+        cachedService.getTriangleInfo(new TriangleDataRequest(10, 5, 10, 28.96, 75.52, 75.52));
+        cachedService.getTriangleInfo(new TriangleDataRequest(20, 10, 20, 30, 75, 75));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedShapesAreEvicted() throws InterruptedException {
+        TriangleSimilarityCache smallCache = new TriangleSimilarityCache(true, 1e-9, 10);
+        TriangleDataRequest isosceles = new TriangleDataRequest(10, 5, 10, 30, 75, 75);
+        TriangleDataResponse response = uncachedService.getTriangleInfo(isosceles);
+
+        for (int i = 0; i < 10; i++) {
+            smallCache.computeIfAbsent(shape(i), TriangleSideType.ISOSCELES, () -> response);
+        }
+        Thread.sleep(5);
+        smallCache.computeIfAbsent(shape(0), TriangleSideType.ISOSCELES, () -> response);
+        smallCache.computeIfAbsent(shape(10), TriangleSideType.ISOSCELES, () -> response);
+
+        assertTrue(smallCache.size() <= 10);
+        assertEquals(11, smallCache.getMissCount());
+        smallCache.computeIfAbsent(shape(0), TriangleSideType.ISOSCELES, () -> response);
+        assertEquals(2, smallCache.getHitCount());
+    }
+
+    /**
+     * Ключи кэша с разными углами: кэш не проверяет треугольник, поэтому углы могут не давать 180
+     */
+    private TriangleDataRequest shape(int i) {
+        return new TriangleDataRequest(10, 5, 10, 30 + i, 75, 75);
+    }
+
+    private void assertSimilar(TriangleDataResponse expected, TriangleDataResponse actual) {
+        assertEquals(expected.getSideType(), actual.getSideType());
+        assertEquals(expected.getAngleType(), actual.getAngleType());
+        assertRelativeEquals(expected.getArea(), actual.getArea());
+        assertRelativeEquals(expected.getPerimeter(), actual.getPerimeter());
+        assertRelativeEquals(expected.getMedians().medianA(), actual.getMedians().medianA());
+        assertRelativeEquals(expected.getBisectors().bisectorB(), actual.getBisectors().bisectorB());
+        assertRelativeEquals(expected.getHeights().heightC(), actual.getHeights().heightC());
+        assertRelativeEquals(expected.getInscribedCircle(), actual.getInscribedCircle());
+        assertRelativeEquals(expected.getCircumscribedCircle(), actual.getCircumscribedCircle());
+    }
+
+    private void assertRelativeEquals(double expected, double actual) {
+        assertEquals(expected, actual, Math.abs(expected) * EPS);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleSweepParameterization;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleSweepRange;
+import org.example.trianglecalculator.dto.TriangleSweepRequest;
+import org.example.trianglecalculator.dto.TriangleSweepResultData;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.validation.AngleSumRule;
+import org.example.trianglecalculator.validation.TriangleInequalityRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.validationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleSweepServiceTest {
+
+    private static final TriangleSweepRange SIDES = new TriangleSweepRange(1, 6, 0.5);
+    private static final TriangleSweepRange ANGLES = new TriangleSweepRange(15, 150, 15);
+
+    private final TriangleInequalityRule inequalityRule = new TriangleInequalityRule();
+    private final AngleSumRule angleSumRule = new AngleSumRule();
+    private final List<TriangleSweepService> services = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        services.forEach(TriangleSweepService::shutdown);
+    }
+
+    @Test
+    void gridSweepMatchesPrunedBruteForce() {
+        var service = createService(10_000_000);
+        var request = new TriangleSweepRequest(null, SIDES, SIDES, SIDES, ANGLES, ANGLES, ANGLES);
+
+        List<TriangleDataRequest> swept = service.sweep(request).map(TriangleSweepResultData::triangle).toList();
+
+        assertEquals(bruteForce(), swept);
+    }
+
+    @Test
+    void aggregatesCountPrunedPoints() {
+        var service = createService(10_000_000);
+        var request = new TriangleSweepRequest(TriangleSweepParameterization.GRID,
+                SIDES, SIDES, SIDES, ANGLES, ANGLES, ANGLES);
+
+        var aggregate = service.aggregate(request);
+
+        long gridSize = (long) Math.pow(SIDES.count(), 3) * (long) Math.pow(ANGLES.count(), 3);
+        assertEquals(gridSize, aggregate.gridSize());
+        assertEquals(bruteForce().size(), aggregate.computed());
+        assertEquals(gridSize - aggregate.computed(), aggregate.pruned());
+        assertTrue(aggregate.rejected() > 0);
+        assertTrue(aggregate.maxArea() >= aggregate.minArea());
+    }
+
+    @Test
+    void fractionalAngleStepKeepsEveryAngleCombination() {
+        var service = createService(10_000_000);
+        var side = new TriangleSweepRange(5, 5, 1);
+        var angles = new TriangleSweepRange(59.7, 60.3, 0.1);
+        var request = new TriangleSweepRequest(null, side, side, side, angles, angles, angles);
+
+        // углы 59.7 + 0.1 * i, сумма равна 180 при i + j + k = 9
+        long expected = 0;
+        for (int i = 0; i < angles.count(); i++) {
+            for (int j = 0; j < angles.count(); j++) {
+                int k = 9 - i - j;
+                if (k >= 0 && k < angles.count()) {
+                    expected++;
+                }
+            }
+        }
+        List<TriangleDataRequest> swept = service.sweep(request).map(TriangleSweepResultData::triangle).toList();
+        assertEquals(expected, swept.size());
+        assertTrue(swept.stream().allMatch(angleSumRule::isSatisfied));
+        assertEquals(expected, service.aggregate(request).computed());
+    }
+
+    @Test
+    void sideAngleSideSweepSolvesTriangles() {
+        var service = createService(10_000_000);
+        var request = new TriangleSweepRequest(TriangleSweepParameterization.SIDE_ANGLE_SIDE,
+                new TriangleSweepRange(3, 3, 1), null, new TriangleSweepRange(4, 4, 1),
+                new TriangleSweepRange(90, 90, 1), null, null);
+
+        List<TriangleSweepResultData> results = service.sweep(request).toList();
+
+        assertEquals(1, results.size());
+        assertEquals(5, results.get(0).triangle().getSideBC(), 1e-9);
+        assertEquals(6, results.get(0).result().getArea(), 1e-9);
+    }
+
+    @Test
+    void sweepsOverPointLimitAreRejected() {
+        var service = createService(1000);
+        var request = new TriangleSweepRequest(null, SIDES, SIDES, SIDES, ANGLES, ANGLES, ANGLES);
+
+        assertThrows(TriangleValidateException.class, () -> service.sweep(request));
+    }
+
+    private List<TriangleDataRequest> bruteForce() {
+        List<TriangleDataRequest> points = new ArrayList<>();
+        for (long ab = 0; ab < SIDES.count(); ab++) {
+            for (long bc = 0; bc < SIDES.count(); bc++) {
+                for (long ac = 0; ac < SIDES.count(); ac++) {
+                    for (long a = 0; a < ANGLES.count(); a++) {
+                        for (long b = 0; b < ANGLES.count(); b++) {
+                            for (long c = 0; c < ANGLES.count(); c++) {
+                                var point = new TriangleDataRequest(SIDES.valueAt(ab), SIDES.valueAt(bc),
+                                        SIDES.valueAt(ac), ANGLES.valueAt(a), ANGLES.valueAt(b), ANGLES.valueAt(c));
+                                if (inequalityRule.isSatisfied(point) && angleSumRule.isSatisfied(point)) {
+                                    points.add(point);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return points;
+    }
+
+    private TriangleSweepService createService(long maxPoints) {
+        var computeService = new TriangleComputeService(validationService(), new TriangleSimilarityCache(false, 1e-9, 1));
+        var service = new TriangleSweepService(computeService, inequalityRule, angleSumRule, maxPoints, 2, 4);
+        services.add(service);
+        return service;
+    }
+}
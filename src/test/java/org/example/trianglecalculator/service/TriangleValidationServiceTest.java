@@ -0,0 +1,118 @@
+package org.example.trianglecalculator.service;
+
+import org.example.trianglecalculator.domain.TriangleValidationMode;
+import org.example.trianglecalculator.dto.TriangleDataRequest;
+import org.example.trianglecalculator.dto.TriangleValidationRuleStatsData;
+import org.example.trianglecalculator.exception.TriangleValidateException;
+import org.example.trianglecalculator.validation.TriangleValidationRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.trianglecalculator.validation.TriangleValidationFixtures.defaultRules;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangleValidationServiceTest {
+
+    private static final TriangleDataRequest BAD_SIDES_AND_ANGLES = new TriangleDataRequest(3, 8, 4, 190, 30, 45);
+    private static final TriangleDataRequest BAD_ANGLES = new TriangleDataRequest(3, 5, 4, 90, 50, 36.87);
+
+    @Test
+    void collectAllReportsEveryViolation() {
+        var service = new TriangleValidationService(defaultRules(), TriangleValidationMode.COLLECT_ALL);
+
+        var e = assertThrows(TriangleValidateException.class,
+                () -> service.validateTriangleDataRequest(BAD_SIDES_AND_ANGLES));
+
+        assertEquals(List.of("Одна из сторон больше суммы двух других", "Сумма углов треугольника не равна 180"),
+                e.getErrors());
+    }
+
+    @Test
+    void refinementRulesAreSkippedForImpossibleTriangle() {
+        var service = new TriangleValidationService(defaultRules(), TriangleValidationMode.COLLECT_ALL);
+
+        var e = assertThrows(TriangleValidateException.class,
+                () -> service.validateTriangleDataRequest(new TriangleDataRequest(3, 10, 4, 90, 50, 40)));
+
+        assertEquals(List.of("Одна из сторон больше суммы двух других"), e.getErrors());
+    }
+
+    @Test
+    void refinementRulesReportFirstViolation() {
+        var service = new TriangleValidationService(defaultRules(), TriangleValidationMode.COLLECT_ALL);
+
+        var e = assertThrows(TriangleValidateException.class,
+                () -> service.validateTriangleDataRequest(new TriangleDataRequest(5, 5, 5, 90, 45, 45)));
+
+        assertEquals(List.of("углы в равностороннем треугольнике должны быть равны друг другу"), e.getErrors());
+    }
+
+    @Test
+    void failFastReportsFirstViolation() {
+        var service = new TriangleValidationService(defaultRules(), TriangleValidationMode.FAIL_FAST);
+
+        var e = assertThrows(TriangleValidateException.class,
+                () -> service.validateTriangleDataRequest(BAD_SIDES_AND_ANGLES));
+
+        assertEquals(1, e.getErrors().size());
+    }
+
+    @Test
+    void failFastMovesFrequentlyFailingRuleFirst() {
+        var service = new TriangleValidationService(defaultRules(), TriangleValidationMode.FAIL_FAST);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThrows(TriangleValidateException.class, () -> service.validateTriangleDataRequest(BAD_ANGLES));
+        }
+
+        var order = service.getRuleStats().stream().map(TriangleValidationRuleStatsData::name).toList();
+        assertEquals("angleSum", order.get(0));
+        assertEquals(List.of("equilateralAngles", "pythagoreanTheorem"), order.subList(2, 4).stream().sorted().toList());
+    }
+
+    @Test
+    void customRulesAreAppliedAfterDefaults() {
+        List<TriangleValidationRule> rules = new ArrayList<>(defaultRules());
+        rules.add(new TriangleValidationRule() {
+            @Override
+            public String getName() {
+                return "maxSide";
+            }
+
+            @Override
+            public String getErrorMessage() {
+                return "Длина стороны не должна превышать 100";
+            }
+
+            @Override
+            public boolean isSatisfied(TriangleDataRequest request) {
+                return Math.max(request.getSideAB(), Math.max(request.getSideBC(), request.getSideAC())) <= 100;
+            }
+        });
+        var service = new TriangleValidationService(rules, TriangleValidationMode.COLLECT_ALL);
+
+        service.validateTriangleDataRequest(new TriangleDataRequest(30, 50, 40, 90, 53.13, 36.87));
+        var e = assertThrows(TriangleValidateException.class,
+                () -> service.validateTriangleDataRequest(new TriangleDataRequest(300, 500, 400, 90, 53.13, 36.87)));
+
+        assertEquals(List.of("Длина стороны не должна превышать 100"), e.getErrors());
+    }
+
+    @Test
+    void ruleStatsCountRejections() {
+        var service = new TriangleValidationService(defaultRules(), TriangleValidationMode.COLLECT_ALL);
+
+        service.validateTriangleDataRequest(new TriangleDataRequest(5, 5, 5, 60, 60, 60));
+        assertThrows(TriangleValidateException.class,
+                () -> service.validateTriangleDataRequest(new TriangleDataRequest(10, 10, 10, 28.96, 75.52, 75.52)));
+
+        TriangleValidationRuleStatsData equilateral = service.getRuleStats().stream()
+                .filter(stats -> stats.name().equals("equilateralAngles"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, equilateral.evaluations());
+        assertEquals(1, equilateral.rejections());
+    }
+}
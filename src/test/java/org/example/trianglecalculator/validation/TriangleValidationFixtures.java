@@ -0,0 +1,23 @@
+package org.example.trianglecalculator.validation;
+
+import org.example.trianglecalculator.domain.TriangleValidationMode;
+import org.example.trianglecalculator.service.TriangleValidationService;
+
+import java.util.List;
+
+/**
+ * Сервис валидации со встроенными правилами для тестов без Spring-контекста
+ */
+public final class TriangleValidationFixtures {
+
+    private TriangleValidationFixtures() {
+    }
+
+    public static List<TriangleValidationRule> defaultRules() {
+        return TriangleValidationRules.defaultRules();
+    }
+
+    public static TriangleValidationService validationService() {
+        return new TriangleValidationService(defaultRules(), TriangleValidationMode.COLLECT_ALL);
+    }
+}